@@ -0,0 +1,30 @@
+package com.yhy.http.flare.mock.server.config;
+
+import org.springframework.boot.tomcat.servlet.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat 配置
+ * <p>
+ * Flare 按 RFC 3986 编码 path 参数，参数值中的 '/' 会编码为 %2F，Tomcat 默认直接返回 400，这里原样交给 Spring 按路径段解析。
+ * <p>
+ * Created on 2026-10-18 09:20
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Configuration
+public class TomcatConfig implements WebServerFactoryCustomizer<TomcatServletWebServerFactory> {
+
+    /**
+     * 允许 path 中出现 %2F。
+     *
+     * @param factory Tomcat 工厂
+     */
+    @Override
+    public void customize(TomcatServletWebServerFactory factory) {
+        factory.addConnectorCustomizers(connector -> connector.setEncodedSolidusHandling("passthrough"));
+    }
+}
@@ -0,0 +1,388 @@
+package com.yhy.http.flare.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 接口方法注解校验
+ * <p>
+ * 规则和错误信息与运行时 RequestFactory.Builder、HttpHandlerAdapter 保持一致。
+ * <p>
+ * Created on 2026-10-17 15:52
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+final class ApiValidator {
+    private static final String ANNOTATION_PACKAGE = "com.yhy.http.flare.annotation.";
+    private static final String PARAM_PACKAGE = ANNOTATION_PACKAGE + "param.";
+    private static final String HEADER = ANNOTATION_PACKAGE + "Header";
+    private static final String HEADERS = ANNOTATION_PACKAGE + "Headers";
+    private static final String FORM_DATA = ANNOTATION_PACKAGE + "FormData";
+    private static final String X3W_FORM_URL_ENCODED = ANNOTATION_PACKAGE + "X3WFormUrlEncoded";
+    private static final Map<String, String> HTTP_METHODS = new LinkedHashMap<>();
+
+    private static final String REGEX_PARAM = "[a-zA-Z][a-zA-Z0-9_-]*";
+    private static final Pattern REGEX_PARAM_URL = Pattern.compile("\\{(" + REGEX_PARAM + ")}.*?");
+    private static final Pattern REGEX_PARAM_NAME = Pattern.compile(REGEX_PARAM);
+    private static final Pattern REGEX_PLACEHOLDER = Pattern.compile("\\{(" + REGEX_PARAM + ")}");
+
+    static {
+        for (String name : List.of("Get", "Post", "Delete", "Head", "Options", "Patch", "Put", "Trace")) {
+            HTTP_METHODS.put(FlareProcessor.METHOD_PACKAGE + name, name.toUpperCase());
+        }
+    }
+
+    private final ProcessingEnvironment env;
+    private final Elements elements;
+    private final Types types;
+
+    ApiValidator(ProcessingEnvironment env) {
+        this.env = env;
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+    }
+
+    /**
+     * 校验方法
+     *
+     * @param method 方法
+     * @return 校验通过时返回校验结果，否则返回 null，错误已报告
+     */
+    ValidatedMethod validate(ExecutableElement method) {
+        String httpMethod = null;
+        String relativeUrl = null;
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            AnnotationMirror http = httpAnnotation(mirror);
+            if (null == http) {
+                continue;
+            }
+            String current = HTTP_METHODS.get(name(http));
+            if (null != httpMethod) {
+                return error(method, "Only one http method is allowed, but found : %s and %s", httpMethod, current);
+            }
+            httpMethod = current;
+            relativeUrl = stringValue(http, "value");
+        }
+        if (null == httpMethod) {
+            return error(method, "HTTP method annotation is required (e.g., @Get, @Post, etc.).");
+        }
+
+        if (hasUnresolvableType(method.getReturnType())) {
+            return error(method, "Method return type must not include a type variable or wildcard: %s", method.getReturnType());
+        }
+
+        // 如果地址中包含get参数，则参数部分不能含有RESTful参数
+        int index = relativeUrl.indexOf("?");
+        if (index > 0 && index < relativeUrl.length() - 1) {
+            String queryParams = relativeUrl.substring(index + 1);
+            if (REGEX_PARAM_URL.matcher(queryParams).find()) {
+                return error(method, "URL query string \"%s\" must not have replace block. For dynamic query parameters use @Query.", queryParams);
+            }
+        }
+
+        boolean isFormData = null != annotation(method, FORM_DATA);
+        boolean isX3WFormUrlEncoded = null != annotation(method, X3W_FORM_URL_ENCODED);
+        if (isFormData && isX3WFormUrlEncoded) {
+            return error(method, "Only one encoding annotation is allowed.");
+        }
+        if (!validateHeaders(method)) {
+            return null;
+        }
+
+        Set<String> pathNames = new HashSet<>();
+        Matcher matcher = REGEX_PLACEHOLDER.matcher(relativeUrl);
+        while (matcher.find()) {
+            pathNames.add(matcher.group(1));
+        }
+
+        boolean valid = true;
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            valid &= validateParameter(parameters, i, relativeUrl, pathNames, isFormData, isX3WFormUrlEncoded);
+        }
+        return valid ? new ValidatedMethod(method) : null;
+    }
+
+    private boolean validateHeaders(ExecutableElement method) {
+        List<AnnotationMirror> headers = new ArrayList<>();
+        AnnotationMirror header = annotation(method, HEADER);
+        if (null != header) {
+            headers.add(header);
+        }
+        AnnotationMirror container = annotation(method, HEADERS);
+        if (null != container) {
+            for (Object value : listValue(container, "value")) {
+                if (value instanceof AnnotationMirror mirror) {
+                    headers.add(mirror);
+                }
+            }
+        }
+        for (AnnotationMirror mirror : headers) {
+            String value = stringValue(mirror, "value");
+            if (!value.isEmpty()) {
+                if (value.indexOf(":") <= 0) {
+                    error(method, "Header value must be in the form \"Name: Value\". Found: \"%s\"", value);
+                    return false;
+                }
+            } else if (isDefaultDynamic(mirror) && stringValue(mirror, "pairName").isBlank()) {
+                error(method, "@Header pairName can not be empty");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean validateParameter(List<? extends VariableElement> parameters, int index, String relativeUrl, Set<String> pathNames, boolean isFormData, boolean isX3WFormUrlEncoded) {
+        VariableElement parameter = parameters.get(index);
+        TypeMirror type = parameter.asType();
+        String parameterName = parameter.getSimpleName().toString();
+
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        for (AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            String name = name(mirror);
+            if (name.startsWith(PARAM_PACKAGE) || HEADER.equals(name)) {
+                annotations.add(mirror);
+            }
+        }
+        if (annotations.isEmpty()) {
+            // 没有注解的参数按 @Query 处理
+            return validateQuery(parameter, index, type);
+        }
+
+        for (AnnotationMirror mirror : annotations) {
+            if (hasUnresolvableType(type)) {
+                return parameterError(parameter, index, "Parameter type must not include a type variable or wildcard: %s", type);
+            }
+            switch (name(mirror).substring(name(mirror).lastIndexOf('.') + 1)) {
+                case "Url" -> {
+                    if (!isType(type, "java.lang.String") && !isType(type, "okhttp3.HttpUrl") && !isType(type, "java.net.URI")) {
+                        return parameterError(parameter, index, "@Url must be okhttp3.HttpUrl, String, java.net.URI type.");
+                    }
+                }
+                case "Path" -> {
+                    if (relativeUrl.isBlank()) {
+                        return parameterError(parameter, index, "@Path can only be used with relative url not empty.");
+                    }
+                    String name = orElse(stringValue(mirror, "value"), parameterName);
+                    if (!REGEX_PARAM_NAME.matcher(name).matches()) {
+                        return parameterError(parameter, index, "@Path parameter name must match %s. Found: %s", REGEX_PARAM_URL.pattern(), name);
+                    }
+                    if (!pathNames.contains(name)) {
+                        return parameterError(parameter, index, "URL \"%s\" does not contain \"{%s}\".", relativeUrl, name);
+                    }
+                }
+                case "Query" -> {
+                    if (!validateQuery(parameter, index, type)) {
+                        return false;
+                    }
+                }
+                case "Field" -> {
+                    if (!isFormData && !isX3WFormUrlEncoded) {
+                        return parameterError(parameter, index, "@Field can only be used with form encoding.");
+                    }
+                    if (!validateContainer(parameter, index, type, "@Field")) {
+                        return false;
+                    }
+                }
+                case "Multipart" -> {
+                    if (!isFormData) {
+                        return parameterError(parameter, index, "@Multipart parameters can only be used with @FormData.");
+                    }
+                }
+                case "Header" -> {
+                    if (!isType(type, "okhttp3.Headers") && !validateContainer(parameter, index, type, "@Header")) {
+                        return false;
+                    }
+                }
+                case "Binary" -> {
+                    if (isFormData || isX3WFormUrlEncoded) {
+                        return parameterError(parameter, index, "@Binary parameters can only be used with multipart encoding.");
+                    }
+                }
+                case "Body" -> {
+                    if (isFormData || isX3WFormUrlEncoded) {
+                        return parameterError(parameter, index, "@Body parameters cannot be used with form or multi-multipart encoding.");
+                    }
+                }
+                case "Tag" -> {
+                    TypeMirror tagType = types.erasure(type);
+                    for (int i = index - 1; i >= 0; i--) {
+                        VariableElement other = parameters.get(i);
+                        if (null != annotation(other, PARAM_PACKAGE + "Tag") && types.isSameType(tagType, types.erasure(other.asType()))) {
+                            return parameterError(parameter, index, "@Tag type %s is duplicate of parameter #%d and would always overwrite its value.", tagType, i + 1);
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean validateQuery(VariableElement parameter, int index, TypeMirror type) {
+        return validateContainer(parameter, index, type, "@Query");
+    }
+
+    /**
+     * Iterable 必须带泛型，Map 的 key 必须是 String
+     */
+    private boolean validateContainer(VariableElement parameter, int index, TypeMirror type, String annotation) {
+        if (isSubtype(type, "java.lang.Iterable")) {
+            if (!(type instanceof DeclaredType declared) || declared.getTypeArguments().isEmpty()) {
+                String simpleName = types.asElement(type).getSimpleName().toString();
+                return parameterError(parameter, index, "%s must include generic type (e.g., %s<String>)", simpleName, simpleName);
+            }
+        } else if (isSubtype(type, "java.util.Map")) {
+            DeclaredType mapType = supertype(type, "java.util.Map");
+            if (null == mapType || mapType.getTypeArguments().isEmpty()) {
+                return parameterError(parameter, index, "Map must include generic types (e.g., Map<String, Object>)");
+            }
+            TypeMirror keyType = mapType.getTypeArguments().get(0);
+            if (!isType(keyType, "java.lang.String")) {
+                return parameterError(parameter, index, "%s Map keys must be of type String: %s", annotation, keyType);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 报告错误
+     *
+     * @param element 元素
+     * @param message 错误信息
+     * @param args    参数
+     * @return 固定返回 null
+     */
+    ValidatedMethod error(Element element, String message, Object... args) {
+        env.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(message, args), element);
+        return null;
+    }
+
+    private boolean parameterError(VariableElement parameter, int index, String message, Object... args) {
+        error(parameter, message + " (parameter #" + (index + 1) + ")", args);
+        return false;
+    }
+
+    /**
+     * 直接标注或通过元注解标注的 HTTP 方法注解
+     */
+    private AnnotationMirror httpAnnotation(AnnotationMirror mirror) {
+        if (HTTP_METHODS.containsKey(name(mirror))) {
+            return mirror;
+        }
+        for (AnnotationMirror meta : mirror.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if (HTTP_METHODS.containsKey(name(meta))) {
+                return meta;
+            }
+        }
+        return null;
+    }
+
+    private boolean isDefaultDynamic(AnnotationMirror header) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> et : header.getElementValues().entrySet()) {
+            if (et.getKey().getSimpleName().contentEquals("dynamic")) {
+                return et.getValue().getValue() instanceof DeclaredType type && ((TypeElement) type.asElement()).getQualifiedName().contentEquals(HEADER + ".Dynamic");
+            }
+        }
+        return true;
+    }
+
+    private boolean hasUnresolvableType(TypeMirror type) {
+        return switch (type.getKind()) {
+            case TYPEVAR, WILDCARD -> true;
+            case ARRAY -> hasUnresolvableType(((ArrayType) type).getComponentType());
+            case DECLARED -> {
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (hasUnresolvableType(argument)) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            default -> false;
+        };
+    }
+
+    private DeclaredType supertype(TypeMirror type, String qualifiedName) {
+        if (type instanceof DeclaredType declared && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(qualifiedName)) {
+            return declared;
+        }
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            DeclaredType found = supertype(supertype, qualifiedName);
+            if (null != found) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private boolean isSubtype(TypeMirror type, String qualifiedName) {
+        TypeElement element = elements.getTypeElement(qualifiedName);
+        return null != element && type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type instanceof DeclaredType declared && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static AnnotationMirror annotation(Element element, String qualifiedName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (name(mirror).equals(qualifiedName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String name(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String stringValue(AnnotationMirror mirror, String name) {
+        Object value = value(mirror, name);
+        return null == value ? "" : value.toString();
+    }
+
+    private List<?> listValue(AnnotationMirror mirror, String name) {
+        Object value = value(mirror, name);
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+        List<Object> values = new ArrayList<>(list.size());
+        for (Object item : list) {
+            values.add(item instanceof AnnotationValue av ? av.getValue() : item);
+        }
+        return values;
+    }
+
+    private Object value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> et : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (et.getKey().getSimpleName().contentEquals(name)) {
+                return et.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String orElse(String value, String defaultValue) {
+        return value.isBlank() ? defaultValue : value;
+    }
+
+    /**
+     * 校验通过的方法
+     *
+     * @param method 方法
+     */
+    record ValidatedMethod(ExecutableElement method) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.yhy.http.flare.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Flare 注解处理器
+ * <p>
+ * 在编译期校验接口上的 Flare 注解，规则与运行时 RequestFactory 一致，错误以编译错误的形式报告；
+ * 校验通过的接口生成 {@code 接口名$$Flare} 实现类，{@code Flare.create} 找到后用它代替 Proxy；方法仍在运行时通过反射解析，启动耗时不变。
+ * <p>
+ * Created on 2026-10-17 15:40
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@SupportedAnnotationTypes({
+    FlareProcessor.METHOD_PACKAGE + "Get",
+    FlareProcessor.METHOD_PACKAGE + "Post",
+    FlareProcessor.METHOD_PACKAGE + "Delete",
+    FlareProcessor.METHOD_PACKAGE + "Head",
+    FlareProcessor.METHOD_PACKAGE + "Options",
+    FlareProcessor.METHOD_PACKAGE + "Patch",
+    FlareProcessor.METHOD_PACKAGE + "Put",
+    FlareProcessor.METHOD_PACKAGE + "Trace",
+})
+public class FlareProcessor extends AbstractProcessor {
+    static final String METHOD_PACKAGE = "com.yhy.http.flare.annotation.method.";
+
+    private final Set<String> processed = new HashSet<>();
+
+    /**
+     * 支持的源码版本。
+     *
+     * @return 最新版本
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * 处理一轮注解。
+     *
+     * @param annotations 注解
+     * @param roundEnv    当前轮次
+     * @return 固定返回 false，不独占注解
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> apis = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD && element.getEnclosingElement() instanceof TypeElement type && type.getKind() == ElementKind.INTERFACE) {
+                    apis.add(type);
+                }
+            }
+        }
+        for (TypeElement api : apis) {
+            if (processed.add(api.getQualifiedName().toString())) {
+                process(api);
+            }
+        }
+        return false;
+    }
+
+    private void process(TypeElement api) {
+        ApiValidator validator = new ApiValidator(processingEnv);
+        if (!api.getTypeParameters().isEmpty()) {
+            validator.error(api, "[%s] can not contains any typeParameter.", api.getQualifiedName());
+            return;
+        }
+
+        List<ApiValidator.ValidatedMethod> validatedMethods = new ArrayList<>();
+        boolean valid = true;
+        for (ExecutableElement method : methods(api)) {
+            ApiValidator.ValidatedMethod validated = validator.validate(method);
+            if (null == validated) {
+                valid = false;
+            } else {
+                validatedMethods.add(validated);
+            }
+        }
+        if (!valid) {
+            return;
+        }
+        if (!accessible(api)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Private interface " + api.getQualifiedName() + " is validated but no implementation is generated.", api);
+            return;
+        }
+        try {
+            new ImplementationWriter(processingEnv).write(api, validatedMethods);
+        } catch (IOException e) {
+            validator.error(api, "Unable to generate implementation for %s: %s", api.getQualifiedName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 需要实现的方法，与 Proxy 一致，包括父接口的方法和 default 方法
+     *
+     * @param api 接口
+     * @return 方法
+     */
+    private List<ExecutableElement> methods(TypeElement api) {
+        Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (Element member : processingEnv.getElementUtils().getAllMembers(api)) {
+            if (member.getKind() != ElementKind.METHOD || member.getModifiers().contains(Modifier.STATIC) || member.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            if (member.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            StringBuilder key = new StringBuilder(method.getSimpleName()).append('(');
+            for (VariableElement parameter : method.getParameters()) {
+                TypeMirror erased = processingEnv.getTypeUtils().erasure(parameter.asType());
+                key.append(erased).append(',');
+            }
+            methods.putIfAbsent(key.append(')').toString(), method);
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private static boolean accessible(TypeElement api) {
+        Element element = api;
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+}
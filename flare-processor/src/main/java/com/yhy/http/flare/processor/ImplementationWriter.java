@@ -0,0 +1,313 @@
+package com.yhy.http.flare.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 生成接口实现类，以及记录方法顺序的 GeneratedApi
+ * <p>
+ * 每个方法直接调用对应下标的 MethodInvoker，无参方法传入共享的空数组；
+ * 未声明的受检异常与 Proxy 一样包装为 UndeclaredThrowableException。
+ * <p>
+ * Created on 2026-10-17 16:20
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+final class ImplementationWriter {
+    private static final String SUFFIX = "$$Flare";
+    private static final String GENERATED_API = "com.yhy.http.flare.proxy.GeneratedApi";
+    private static final String METHOD_INVOKER = "com.yhy.http.flare.proxy.MethodInvoker";
+
+    private final ProcessingEnvironment env;
+    private final Elements elements;
+    private final Types types;
+
+    ImplementationWriter(ProcessingEnvironment env) {
+        this.env = env;
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+    }
+
+    /**
+     * 生成实现类
+     *
+     * @param api   接口
+     * @param methods 已校验的方法
+     * @throws IOException 写入异常
+     */
+    void write(TypeElement api, List<ApiValidator.ValidatedMethod> methods) throws IOException {
+        for (ApiValidator.ValidatedMethod validated : methods) {
+            if (referencesPrivateType(validated.method())) {
+                env.getMessager().printMessage(Diagnostic.Kind.NOTE, "Method " + validated.method().getSimpleName() + " references a private type, no implementation is generated for " + api.getQualifiedName() + ".", validated.method());
+                return;
+            }
+        }
+
+        String packageName = elements.getPackageOf(api).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(api).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String apiName = api.getQualifiedName().toString();
+
+        StringBuilder sb = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n * {@link ").append(apiName).append("} 的编译期实现，由 flare-processor 生成，请勿修改。\n */\n");
+        sb.append("@javax.annotation.processing.Generated(\"").append(FlareProcessor.class.getName()).append("\")\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(simpleName).append(" implements ").append(apiName).append(" {\n");
+
+        // 方法顺序与 invokers 下标一致
+        sb.append("    public static final ").append(GENERATED_API).append('<').append(apiName).append("> GENERATED = ").append(GENERATED_API)
+            .append(".of(").append(apiName).append(".class, ").append(simpleName).append("::new");
+        for (ApiValidator.ValidatedMethod validated : methods) {
+            sb.append(",\n        ").append(GENERATED_API).append(".entry(").append(literal(validated.method().getSimpleName().toString()));
+            for (VariableElement parameter : validated.method().getParameters()) {
+                sb.append(", ").append(classLiteral(parameter.asType()));
+            }
+            sb.append(')');
+        }
+        sb.append(");\n\n");
+
+        sb.append("    private final ").append(METHOD_INVOKER).append("[] invokers;\n\n");
+        sb.append("    private ").append(simpleName).append('(').append(METHOD_INVOKER).append("[] invokers) {\n");
+        sb.append("        this.invokers = invokers;\n");
+        sb.append("    }\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            writeMethod(sb, i, methods.get(i).method());
+        }
+        sb.append("}\n");
+
+        JavaFileObject file = env.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, api);
+        try (Writer writer = file.openWriter()) {
+            writer.write(sb.toString());
+        }
+    }
+
+    private void writeMethod(StringBuilder sb, int index, ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        TypeMirror returnType = method.getReturnType();
+
+        sb.append("\n    @Override\n    public ");
+        if (!method.getTypeParameters().isEmpty()) {
+            StringJoiner joiner = new StringJoiner(", ", "<", "> ");
+            for (TypeParameterElement typeParameter : method.getTypeParameters()) {
+                StringJoiner bounds = new StringJoiner(" & ", typeParameter.getSimpleName() + " extends ", "").setEmptyValue(typeParameter.getSimpleName());
+                for (TypeMirror bound : typeParameter.getBounds()) {
+                    if (!isObject(bound)) {
+                        bounds.add(typeName(bound));
+                    }
+                }
+                joiner.add(bounds.toString());
+            }
+            sb.append(joiner);
+        }
+        sb.append(typeName(returnType)).append(' ').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            TypeMirror type = parameters.get(i).asType();
+            if (method.isVarArgs() && i == parameters.size() - 1) {
+                sb.append(typeName(((ArrayType) type).getComponentType())).append("...");
+            } else {
+                sb.append(typeName(type));
+            }
+            sb.append(' ').append(parameters.get(i).getSimpleName());
+        }
+        sb.append(')');
+        List<TypeMirror> thrown = rethrownTypes(method);
+        if (!method.getThrownTypes().isEmpty()) {
+            StringJoiner joiner = new StringJoiner(", ", " throws ", "");
+            for (TypeMirror type : method.getThrownTypes()) {
+                joiner.add(typeName(type));
+            }
+            sb.append(joiner);
+        }
+        sb.append(" {\n        try {\n            ");
+
+        if (returnType.getKind() != TypeKind.VOID) {
+            sb.append("return (").append(returnType.getKind().isPrimitive() ? boxedName(returnType) : typeName(returnType)).append(") ");
+        }
+        sb.append("invokers[").append(index).append(']');
+        if (parameters.isEmpty()) {
+            sb.append(".invoke(").append(METHOD_INVOKER).append(".EMPTY_ARGS)");
+        } else {
+            sb.append(".invoke(new Object[]{");
+            for (int i = 0; i < parameters.size(); i++) {
+                sb.append(i > 0 ? ", " : "").append(parameters.get(i).getSimpleName());
+            }
+            sb.append("})");
+        }
+        sb.append(";\n");
+
+        sb.append("        } catch (java.lang.RuntimeException | java.lang.Error flare$e) {\n            throw flare$e;\n");
+        boolean throwable = false;
+        for (TypeMirror type : thrown) {
+            sb.append("        } catch (").append(typeName(type)).append(" flare$e) {\n            throw flare$e;\n");
+            throwable |= isType(type, "java.lang.Throwable");
+        }
+        if (!throwable) {
+            sb.append("        } catch (java.lang.Throwable flare$e) {\n            throw new java.lang.reflect.UndeclaredThrowableException(flare$e);\n");
+        }
+        sb.append("        }\n    }\n");
+    }
+
+    /**
+     * 需要原样抛出的受检异常，去掉运行时异常和被其他声明覆盖的子类，避免 catch 子句不可达
+     */
+    private List<TypeMirror> rethrownTypes(ExecutableElement method) {
+        TypeMirror runtime = elements.getTypeElement("java.lang.RuntimeException").asType();
+        TypeMirror error = elements.getTypeElement("java.lang.Error").asType();
+        List<TypeMirror> result = new ArrayList<>();
+        for (TypeMirror type : method.getThrownTypes()) {
+            if (type.getKind() != TypeKind.DECLARED || types.isSubtype(type, runtime) || types.isSubtype(type, error)) {
+                continue;
+            }
+            boolean covered = false;
+            for (TypeMirror other : method.getThrownTypes()) {
+                if (other != type && !types.isSameType(other, type) && types.isSubtype(type, other)) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered && result.stream().noneMatch(it -> types.isSameType(it, type))) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    private boolean referencesPrivateType(ExecutableElement method) {
+        if (isPrivate(method.getReturnType())) {
+            return true;
+        }
+        for (VariableElement parameter : method.getParameters()) {
+            if (isPrivate(parameter.asType())) {
+                return true;
+            }
+        }
+        for (TypeMirror type : method.getThrownTypes()) {
+            if (isPrivate(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPrivate(TypeMirror type) {
+        return switch (type.getKind()) {
+            case ARRAY -> isPrivate(((ArrayType) type).getComponentType());
+            case DECLARED -> {
+                Element element = ((DeclaredType) type).asElement();
+                while (element instanceof TypeElement) {
+                    if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                        yield true;
+                    }
+                    element = element.getEnclosingElement();
+                }
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (isPrivate(argument)) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                yield null != wildcard.getExtendsBound() && isPrivate(wildcard.getExtendsBound()) || null != wildcard.getSuperBound() && isPrivate(wildcard.getSuperBound());
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * 源码中的类型名称，使用全限定名，不带类型注解
+     */
+    private String typeName(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE, VOID -> type.getKind().name().toLowerCase();
+            case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+            case TYPEVAR -> ((TypeVariable) type).asElement().getSimpleName().toString();
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (null != wildcard.getExtendsBound()) {
+                    yield "? extends " + typeName(wildcard.getExtendsBound());
+                }
+                if (null != wildcard.getSuperBound()) {
+                    yield "? super " + typeName(wildcard.getSuperBound());
+                }
+                yield "?";
+            }
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    yield name;
+                }
+                StringJoiner joiner = new StringJoiner(", ", name + "<", ">");
+                for (TypeMirror argument : declared.getTypeArguments()) {
+                    joiner.add(typeName(argument));
+                }
+                yield joiner.toString();
+            }
+            default -> type.toString();
+        };
+    }
+
+    private String classLiteral(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        return switch (erased.getKind()) {
+            case ARRAY -> classLiteral(((ArrayType) erased).getComponentType()).replace(".class", "[].class");
+            case DECLARED -> ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName() + ".class";
+            default -> typeName(erased) + ".class";
+        };
+    }
+
+    private String boxedName(TypeMirror primitive) {
+        return types.boxedClass((PrimitiveType) primitive).getQualifiedName().toString();
+    }
+
+    private static boolean isObject(TypeMirror type) {
+        return isType(type, "java.lang.Object");
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type instanceof DeclaredType declared && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,158 @@
+package com.yhy.http.flare.processor;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.model.StartupReport;
+import com.yhy.http.flare.proxy.GeneratedApi;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FlareProcessor 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class FlareProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * 注解错误在编译期报告，不生成实现类。
+     */
+    @Test
+    public void invalidPathIsCompileError() throws IOException {
+        Result result = compile("demo.BadApi", """
+            package demo;
+
+            import com.yhy.http.flare.annotation.method.Get;
+            import com.yhy.http.flare.annotation.param.Path;
+
+            public interface BadApi {
+                @Get("/users/{id}")
+                String user(@Path("name") String id);
+            }
+            """);
+
+        assertFalse(result.success);
+        assertTrue(result.errors.stream().anyMatch(it -> it.contains("URL \"/users/{id}\" does not contain \"{name}\". (parameter #1)")), result.errors::toString);
+        assertFalse(Files.exists(dir.resolve("classes/demo/BadApi$$Flare.class")));
+    }
+
+    /**
+     * 校验通过的接口生成实现类和 GeneratedApi，实现类调用对应下标的调用器。
+     */
+    @Test
+    public void validApiGeneratesImplementation() throws Exception {
+        Result result = compile("demo.UserApi", """
+            package demo;
+
+            import com.yhy.http.flare.annotation.method.Get;
+            import com.yhy.http.flare.annotation.method.Post;
+            import com.yhy.http.flare.annotation.param.Body;
+            import com.yhy.http.flare.annotation.param.Path;
+            import com.yhy.http.flare.annotation.param.Query;
+
+            import java.util.Map;
+
+            public interface UserApi {
+                @Get("/users/{id}")
+                String user(@Path("id") String id);
+
+                @Post("/users")
+                int create(@Body Map<String, Object> body, @Query("a") String a, @Query("b") int b, @Query("c") long... c) throws java.io.IOException;
+            }
+            """);
+
+        assertTrue(result.success, result.errors::toString);
+        try (URLClassLoader loader = new URLClassLoader(new java.net.URL[]{dir.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> api = loader.loadClass("demo.UserApi");
+            GeneratedApi<?> generated = GeneratedApi.find(api);
+            assertNotNull(generated);
+            assertEquals(2, generated.entries().size());
+            assertEquals(new GeneratedApi.Entry("user", List.of(String.class)), generated.entries().get(0));
+            assertEquals("create", generated.entries().get(1).name());
+            assertEquals(4, generated.entries().get(1).parameterTypes().size());
+
+            Object instance = generated.newInstance(method -> args -> switch (method.getName()) {
+                case "user" -> "user " + args[0];
+                case "create" -> args.length;
+                default -> null;
+            });
+            assertEquals("user 1", api.getMethod("user", String.class).invoke(instance, "1"));
+            assertEquals(4, api.getMethod("create", java.util.Map.class, String.class, int.class, long[].class).invoke(instance, null, "a", 1, new long[0]));
+        }
+    }
+
+    /**
+     * Flare.create 使用生成的实现类代替 Proxy，方法仍在创建时解析并记录在启动报告中。
+     */
+    @Test
+    public void createUsesGeneratedImplementationAndCompilesEagerly() throws Exception {
+        Result result = compile("demo.PingApi", """
+            package demo;
+
+            import com.yhy.http.flare.annotation.method.Get;
+            import com.yhy.http.flare.annotation.param.Query;
+
+            public interface PingApi {
+                @Get("/ping")
+                String ping(@Query("q") String q);
+
+                @Get("/pong")
+                String pong();
+            }
+            """);
+
+        assertTrue(result.success, result.errors::toString);
+        try (URLClassLoader loader = new URLClassLoader(new java.net.URL[]{dir.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> api = loader.loadClass("demo.PingApi");
+            Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").hiddenClassProxy(true).build();
+
+            Object instance = flare.create(api);
+            assertEquals("demo.PingApi" + GeneratedApi.SUFFIX, instance.getClass().getName());
+            StartupReport report = flare.startupReport(api).get();
+            assertTrue(report.generated());
+            assertEquals(List.of("ping", "pong"), report.methods().stream().map(StartupReport.MethodReport::method).sorted().toList());
+        }
+    }
+
+    private Result compile(String className, String source) throws IOException {
+        Path src = dir.resolve("src/" + className.replace('.', '/') + ".java");
+        Path classes = dir.resolve("classes");
+        Files.createDirectories(src.getParent());
+        Files.createDirectories(classes);
+        Files.writeString(src, source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", classes.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjects(src));
+            task.setProcessors(List.of(new FlareProcessor()));
+            boolean success = task.call();
+
+            List<String> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+            return new Result(success, errors);
+        }
+    }
+
+    private record Result(boolean success, List<String> errors) {
+    }
+}
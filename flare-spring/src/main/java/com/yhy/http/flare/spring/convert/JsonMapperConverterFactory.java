@@ -3,8 +3,10 @@ package com.yhy.http.flare.spring.convert;
 import tools.jackson.databind.json.JsonMapper;
 import com.yhy.http.flare.convert.BodyConverter;
 import com.yhy.http.flare.such.convert.JacksonConverterFactory;
+import com.yhy.http.flare.such.convert.JsonAccelerator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Role;
@@ -27,11 +29,14 @@ public class JsonMapperConverterFactory extends JacksonConverterFactory implemen
 
     /**
      * 创建 JsonMapperConverterFactory 实例。
+     * <p>
+     * flare.json-accelerator=true 时使用注册了 Blackbird 模块的副本，不修改 Spring 容器中的 JsonMapper
      *
-     * @param mapper 映射
+     * @param mapper      映射
+     * @param accelerator 是否开启数据绑定加速
      */
-    public JsonMapperConverterFactory(JsonMapper mapper) {
-        super(mapper);
+    public JsonMapperConverterFactory(JsonMapper mapper, @Value("${flare.json-accelerator:false}") boolean accelerator) {
+        super(accelerator ? JsonAccelerator.accelerate(mapper) : mapper);
     }
 
     /**
@@ -13,9 +13,8 @@ import org.springframework.util.CollectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Spring 实现的方法注解提取器注入代理
@@ -31,16 +30,55 @@ import java.util.Objects;
 @Component
 @ConditionalOnMissingBean(MethodAnnotationDelegate.class)
 public class SpringMethodAnnotationDelegate implements MethodAnnotationDelegate, InitializingBean {
+    private static final String FLARE_PACKAGE = "com.yhy.http.flare.";
+
+    private final Map<Method, Map<Class<? extends Annotation>, List<Annotation>>> cache = new ConcurrentHashMap<>();
 
     /**
      * 应用委托。
+     * <p>
+     * 首次访问某个方法时一次性合成该方法上所有 Flare 注解（包括组合注解中的元注解），之后按注解类型直接从缓存中读取
      *
      * @param method 方法
      * @param annotationClass 类型
      * @return 处理结果
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends Annotation> List<T> apply(Method method, Class<T> annotationClass) {
+        if (!annotationClass.getName().startsWith(FLARE_PACKAGE)) {
+            return resolve(method, annotationClass);
+        }
+        Map<Class<? extends Annotation>, List<Annotation>> annotations = cache.get(method);
+        if (null == annotations) {
+            annotations = cache.computeIfAbsent(method, SpringMethodAnnotationDelegate::resolveFlareAnnotations);
+        }
+        List<Annotation> result = annotations.get(annotationClass);
+        if (null != result) {
+            return (List<T>) result;
+        }
+        T annotation = method.getAnnotation(annotationClass);
+        return null == annotation ? List.of() : List.of(annotation);
+    }
+
+    /**
+     * 按注解类型分组合成方法上的所有 Flare 注解
+     *
+     * @param method 方法
+     * @return 注解
+     */
+    private static Map<Class<? extends Annotation>, List<Annotation>> resolveFlareAnnotations(Method method) {
+        Map<Class<? extends Annotation>, List<Annotation>> result = new HashMap<>();
+        MergedAnnotations.from(method, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY).stream().forEach(annotation -> {
+            if (annotation.getType().getName().startsWith(FLARE_PACKAGE)) {
+                result.computeIfAbsent(annotation.getType(), type -> new ArrayList<>()).add(annotation.synthesize());
+            }
+        });
+        result.replaceAll((type, list) -> List.copyOf(list));
+        return result;
+    }
+
+    private static <T extends Annotation> List<T> resolve(Method method, Class<T> annotationClass) {
         MergedAnnotations annotations = MergedAnnotations.from(method, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY);
         // 使用 stream() 获取所有 Header 注解
         List<T> result = annotations.stream(annotationClass)
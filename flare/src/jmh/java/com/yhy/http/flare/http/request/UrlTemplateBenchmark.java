@@ -0,0 +1,67 @@
+package com.yhy.http.flare.http.request;
+
+import com.google.gson.internal.LinkedTreeMap;
+import com.yhy.http.flare.utils.StringUtils;
+import com.yhy.http.flare.utils.UrlUtils;
+import okhttp3.HttpUrl;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 相对 URL 构建基准测试
+ * <p>
+ * legacy 复现了 {@link UrlTemplate} 之前 RequestBuilder / RequestFactory 的处理流程：
+ * URLEncoder 编码 path 参数、StringUtils.format 替换占位符、正则去除前导 /、host.uri() 解析和 addPathSegments。
+ * <p>
+ * Created on 2026-10-17 10:40
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrlTemplateBenchmark {
+    private static final String TEMPLATE = "/api/v1/users/{userId}/orders/{orderId}/detail";
+    private static final HttpUrl BASE = HttpUrl.get("http://localhost:8080/");
+
+    private UrlTemplate template;
+    private String userId;
+    private String orderId;
+
+    @Setup
+    public void setup() {
+        template = UrlTemplate.parse(TEMPLATE).withBase(BASE);
+        userId = "李万姬";
+        orderId = "20261017-0001";
+    }
+
+    @Benchmark
+    public HttpUrl legacy() {
+        Map<String, Object> pathParamMap = new LinkedTreeMap<>();
+        pathParamMap.put("userId", URLEncoder.encode(userId, StandardCharsets.UTF_8));
+        pathParamMap.put("orderId", URLEncoder.encode(orderId, StandardCharsets.UTF_8));
+        String relativeUrl = TEMPLATE;
+        if (BASE.uri().getPath().endsWith("/") && relativeUrl.startsWith("/")) {
+            relativeUrl = relativeUrl.substring(1);
+        }
+        relativeUrl = StringUtils.format(relativeUrl, pathParamMap);
+        if (relativeUrl.startsWith("/")) {
+            relativeUrl = relativeUrl.replaceAll("^/+", "");
+        }
+        return BASE.newBuilder().addPathSegments(relativeUrl).build();
+    }
+
+    @Benchmark
+    public HttpUrl compiled() {
+        String[] values = new String[template.placeholderCount()];
+        values[0] = UrlUtils.encodePathSegment(userId);
+        values[1] = UrlUtils.encodePathSegment(orderId);
+        return template.expand(values);
+    }
+}
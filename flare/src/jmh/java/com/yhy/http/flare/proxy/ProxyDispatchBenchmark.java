@@ -0,0 +1,89 @@
+package com.yhy.http.flare.proxy;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 接口代理分发开销基准测试
+ * <p>
+ * 两种实现最终调用同一个空的 {@link MethodInvoker}，只比较 {@link Proxy} 和生成的 hidden class 的分发开销。
+ * proxy 按 Flare 的做法在 InvocationHandler 中按 {@link Method} 查找调用器。
+ * <p>
+ * Created on 2026-10-17 14:40
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyDispatchBenchmark {
+
+    private Api proxy;
+    private Api hiddenClass;
+    private int value;
+    private String name;
+
+    @Setup
+    public void setup() {
+        Map<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
+        for (Method method : Api.class.getMethods()) {
+            invokers.put(method, invoker(method));
+        }
+        proxy = (Api) Proxy.newProxyInstance(Api.class.getClassLoader(), new Class<?>[]{Api.class}, (p, method, args) -> invokers.get(method).invoke(null != args ? args : MethodInvoker.EMPTY_ARGS));
+        hiddenClass = HiddenClassProxyFactory.create(Api.class, ProxyDispatchBenchmark::invoker);
+        value = 42;
+        name = "flare";
+    }
+
+    @Benchmark
+    public Object proxyNoArgs() {
+        return proxy.none();
+    }
+
+    @Benchmark
+    public Object hiddenClassNoArgs() {
+        return hiddenClass.none();
+    }
+
+    @Benchmark
+    public int proxyPrimitive() {
+        return proxy.primitive(value, value);
+    }
+
+    @Benchmark
+    public int hiddenClassPrimitive() {
+        return hiddenClass.primitive(value, value);
+    }
+
+    @Benchmark
+    public Object proxyManyArgs() {
+        return proxy.many(name, name, name, name);
+    }
+
+    @Benchmark
+    public Object hiddenClassManyArgs() {
+        return hiddenClass.many(name, name, name, name);
+    }
+
+    private static MethodInvoker invoker(Method method) {
+        return switch (method.getName()) {
+            case "primitive" -> args -> args[0];
+            default -> args -> args.length > 0 ? args[0] : null;
+        };
+    }
+
+    public interface Api {
+        String none();
+
+        int primitive(int a, int b);
+
+        String many(String a, String b, String c, String d);
+    }
+}
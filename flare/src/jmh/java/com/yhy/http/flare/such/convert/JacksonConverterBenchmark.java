@@ -0,0 +1,118 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.JsonPointer;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson 转换器基准测试
+ * <p>
+ * 使用与测试中 {@code Res<User>} 相同结构的数据，legacy 为每次通过 JsonMapper 解析类型的旧写法，
+ * converter 为解析方法时创建好 ObjectReader/ObjectWriter 的转换器，projected 为只解析第一个用户的 {@link JsonPointer} 转换器。
+ * <p>
+ * Created on 2026-10-17 19:30
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonConverterBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json; charset=UTF-8");
+
+    @Param({"1", "100"})
+    public int users;
+
+    private JsonMapper mapper;
+    private JavaType type;
+    private Res<List<User>> value;
+    private byte[] json;
+    private BodyConverter<ResponseBody, Res<List<User>>> responseConverter;
+    private BodyConverter<Res<List<User>>, RequestBody> requestConverter;
+    private BodyConverter<ResponseBody, User> projectedConverter;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        mapper = JsonMapper.builderWithJackson2Defaults().build();
+        Type resType = JacksonConverterBenchmark.class.getDeclaredField("value").getGenericType();
+        type = mapper.getTypeFactory().constructType(resType);
+
+        List<User> list = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            list.add(new User((long) i, "user-" + i, 18 + i % 50, new Cat("cat-" + i, i % 10)));
+        }
+        value = new Res<>(0, "success", list);
+        json = mapper.writeValueAsBytes(value);
+
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        JacksonConverterFactory factory = new JacksonConverterFactory(mapper);
+        responseConverter = (BodyConverter<ResponseBody, Res<List<User>>>) factory.responseBodyConverter(resType, new Annotation[0], flare);
+        requestConverter = (BodyConverter<Res<List<User>>, RequestBody>) factory.requestBodyConverter(resType, new Annotation[0], flare);
+        Annotation[] pointer = JacksonConverterBenchmark.class.getDeclaredMethod("firstUser").getAnnotations();
+        projectedConverter = (BodyConverter<ResponseBody, User>) factory.responseBodyConverter(User.class, pointer, flare);
+    }
+
+    @Benchmark
+    public Object legacyRead() {
+        return mapper.readValue(ResponseBody.create(json, JSON).byteStream(), type);
+    }
+
+    @Benchmark
+    public Object converterRead() throws Exception {
+        return responseConverter.convert(ResponseBody.create(json, JSON));
+    }
+
+    @Benchmark
+    public Object projectedRead() throws Exception {
+        return projectedConverter.convert(ResponseBody.create(json, JSON));
+    }
+
+    @Benchmark
+    public Object legacyWrite() throws Exception {
+        Buffer buffer = new Buffer();
+        Writer writer = new OutputStreamWriter(buffer.outputStream(), StandardCharsets.UTF_8);
+        JsonGenerator gen = mapper.writer().forType(type).createGenerator(writer);
+        mapper.writeValue(gen, value);
+        gen.close();
+        return RequestBody.create(buffer.readByteArray(), JSON);
+    }
+
+    @Benchmark
+    public Object converterWrite() throws Exception {
+        return requestConverter.convert(value);
+    }
+
+    @JsonPointer("/data/0")
+    private static User firstUser() {
+        return null;
+    }
+
+    public record Res<T>(Integer code, String message, T data) {
+    }
+
+    public record User(Long id, String name, Integer age, Cat cat) {
+    }
+
+    public record Cat(String name, Integer age) {
+    }
+}
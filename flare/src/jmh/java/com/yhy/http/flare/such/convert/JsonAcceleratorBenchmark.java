@@ -0,0 +1,184 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.test.model.Cat;
+import com.yhy.http.flare.test.model.Res;
+import com.yhy.http.flare.test.model.User;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonAccelerator 基准测试
+ * <p>
+ * records 使用测试源码中的 {@code Res<List<User>>}，beans 使用 getter/setter 风格的 DTO，
+ * accelerated 为 true 时 mapper 注册 Blackbird 模块。
+ * record 通过构造方法反序列化，加速主要体现在序列化和 Bean 的读写上。
+ * <p>
+ * Created on 2026-10-17 23:15
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonAcceleratorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean accelerated;
+
+    @Param({"100"})
+    public int size;
+
+    private Res<List<User>> records;
+    private List<Profile> beans;
+    private byte[] recordsJson;
+    private byte[] beansJson;
+    private ObjectReader recordsReader;
+    private ObjectWriter recordsWriter;
+    private ObjectReader beansReader;
+    private ObjectWriter beansWriter;
+
+    @Setup
+    public void setup() throws Exception {
+        JsonMapper mapper = JsonMapper.builderWithJackson2Defaults().build();
+        if (accelerated) {
+            mapper = JsonAccelerator.accelerate(mapper);
+        }
+
+        List<User> users = new ArrayList<>();
+        beans = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            users.add(new User((long) i, "user-" + i, 20 + i % 50, new Cat("cat-" + i, i % 2 == 0 ? "white" : "black")));
+            beans.add(Profile.sample(i));
+        }
+        records = new Res<>(0, "OK", users);
+
+        JavaType recordsType = mapper.getTypeFactory().constructType(JsonAcceleratorBenchmark.class.getDeclaredField("records").getGenericType());
+        JavaType beansType = mapper.getTypeFactory().constructType(JsonAcceleratorBenchmark.class.getDeclaredField("beans").getGenericType());
+        recordsReader = mapper.readerFor(recordsType);
+        recordsWriter = mapper.writerFor(recordsType);
+        beansReader = mapper.readerFor(beansType);
+        beansWriter = mapper.writerFor(beansType);
+        recordsJson = recordsWriter.writeValueAsBytes(records);
+        beansJson = beansWriter.writeValueAsBytes(beans);
+    }
+
+    @Benchmark
+    public Object readRecords() {
+        return recordsReader.readValue(recordsJson);
+    }
+
+    @Benchmark
+    public byte[] writeRecords() {
+        return recordsWriter.writeValueAsBytes(records);
+    }
+
+    @Benchmark
+    public Object readBeans() {
+        return beansReader.readValue(beansJson);
+    }
+
+    @Benchmark
+    public byte[] writeBeans() {
+        return beansWriter.writeValueAsBytes(beans);
+    }
+
+    /**
+     * getter/setter 风格的 DTO
+     */
+    public static class Profile {
+        private long id;
+        private String name;
+        private String email;
+        private String phone;
+        private String city;
+        private int age;
+        private double score;
+        private boolean active;
+
+        static Profile sample(int i) {
+            Profile profile = new Profile();
+            profile.setId(i);
+            profile.setName("user-" + i);
+            profile.setEmail("user-" + i + "@example.com");
+            profile.setPhone("1380000" + i);
+            profile.setCity("city-" + i % 10);
+            profile.setAge(20 + i % 50);
+            profile.setScore(i * 1.5);
+            profile.setActive(i % 2 == 0);
+            return profile;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getPhone() {
+            return phone;
+        }
+
+        public void setPhone(String phone) {
+            this.phone = phone;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.ParallelDecode;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 大体量 JSON 数组响应解析基准测试
+ * <p>
+ * sequential 为默认的单线程解析，parallel 为 {@link ParallelDecode} 在默认解析线程池上的并行解析。
+ * <p>
+ * Created on 2026-10-17 22:50
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelDecodeBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json; charset=UTF-8");
+
+    @Param({"10000", "200000"})
+    public int records;
+
+    private byte[] json;
+    private BodyConverter<ResponseBody, ?> sequential;
+    private BodyConverter<ResponseBody, ?> parallel;
+
+    @Setup
+    public void setup() throws Exception {
+        JsonMapper mapper = JsonMapper.builderWithJackson2Defaults().build();
+        json = mapper.writeValueAsBytes(IntStream.range(0, records).mapToObj(i -> new Order(i, "order-" + i, i * 1.5, List.of("a", "b", "c"))).toList());
+
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        JacksonConverterFactory factory = new JacksonConverterFactory(mapper);
+        Method plain = Api.class.getDeclaredMethod("plain");
+        Method split = Api.class.getDeclaredMethod("split");
+        sequential = factory.responseBodyConverter(plain.getGenericReturnType(), plain.getAnnotations(), flare);
+        parallel = factory.responseBodyConverter(split.getGenericReturnType(), split.getAnnotations(), flare);
+    }
+
+    @Benchmark
+    public Object sequential() throws Exception {
+        return sequential.convert(ResponseBody.create(json, JSON));
+    }
+
+    @Benchmark
+    public Object parallel() throws Exception {
+        return parallel.convert(ResponseBody.create(json, JSON));
+    }
+
+    public record Order(long id, String name, double amount, List<String> tags) {
+    }
+
+    interface Api {
+
+        List<Order> plain();
+
+        @ParallelDecode
+        List<Order> split();
+    }
+}
@@ -0,0 +1,72 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 数值数组响应解析基准测试
+ * <p>
+ * boxed 为 {@code List<Long>}，primitive 为 {@code long[]}，stream 为 {@link LongStream}，
+ * 对比装箱带来的耗时和分配，建议配合 -prof gc 运行。
+ * <p>
+ * Created on 2026-10-17 22:10
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveArrayBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json; charset=UTF-8");
+
+    @Param({"1000", "200000"})
+    public int size;
+
+    private byte[] json;
+    private BodyConverter<ResponseBody, ?> boxed;
+    private BodyConverter<ResponseBody, ?> primitive;
+    private BodyConverter<ResponseBody, ?> stream;
+
+    @Setup
+    public void setup() throws Exception {
+        JsonMapper mapper = JsonMapper.builderWithJackson2Defaults().build();
+        json = mapper.writeValueAsBytes(LongStream.range(0, size).map(i -> ThreadLocalRandom.current().nextLong()).toArray());
+
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        JacksonConverterFactory factory = new JacksonConverterFactory(mapper);
+        boxed = factory.responseBodyConverter(PrimitiveArrayBenchmark.class.getDeclaredMethod("samples").getGenericReturnType(), new Annotation[0], flare);
+        primitive = factory.responseBodyConverter(long[].class, new Annotation[0], flare);
+        stream = factory.responseBodyConverter(LongStream.class, new Annotation[0], flare);
+    }
+
+    @Benchmark
+    public Object boxed() throws Exception {
+        return boxed.convert(ResponseBody.create(json, JSON));
+    }
+
+    @Benchmark
+    public Object primitive() throws Exception {
+        return primitive.convert(ResponseBody.create(json, JSON));
+    }
+
+    @Benchmark
+    public long stream() throws Exception {
+        return ((LongStream) stream.convert(ResponseBody.create(json, JSON))).sum();
+    }
+
+    private static List<Long> samples() {
+        return null;
+    }
+}
@@ -1,10 +1,9 @@
 package com.yhy.http.flare;
 
 import tools.jackson.databind.json.JsonMapper;
+import com.yhy.http.flare.annotation.Codec;
+import com.yhy.http.flare.annotation.Compress;
 import com.yhy.http.flare.annotation.Header;
-import com.yhy.http.flare.annotation.exception.Catcher;
-import com.yhy.http.flare.annotation.exception.Catchers;
-import com.yhy.http.flare.annotation.exception.ErrorIgnored;
 import com.yhy.http.flare.call.CallAdapter;
 import com.yhy.http.flare.convert.BodyConverter;
 import com.yhy.http.flare.convert.FormFieldConverter;
@@ -13,16 +12,26 @@ import com.yhy.http.flare.delegate.*;
 import com.yhy.http.flare.dispatcher.ThrowableDispatcher;
 import com.yhy.http.flare.http.HttpHandler;
 import com.yhy.http.flare.http.HttpHandlerAdapter;
+import com.yhy.http.flare.model.StartupReport;
 import com.yhy.http.flare.provider.DispatcherProvider;
+import com.yhy.http.flare.proxy.HiddenClassProxyFactory;
+import com.yhy.http.flare.proxy.MethodInvoker;
+import com.yhy.http.flare.proxy.GeneratedApi;
 import com.yhy.http.flare.such.adapter.GuavaCallAdapter;
+import com.yhy.http.flare.such.compress.RequestCompressor;
 import com.yhy.http.flare.such.convert.FormFieldConverterFactory;
 import com.yhy.http.flare.such.convert.JacksonConverterFactory;
+import com.yhy.http.flare.such.convert.JsonAccelerator;
+import com.yhy.http.flare.such.convert.NegotiatingBodyConverter;
+import com.yhy.http.flare.such.convert.ParallelRecordDecoder;
 import com.yhy.http.flare.such.convert.StringConverterFactory;
 import com.yhy.http.flare.such.delegate.*;
+import com.yhy.http.flare.such.header.CachedDynamicHeader;
 import com.yhy.http.flare.such.interceptor.HttpLoggerInterceptor;
 import com.yhy.http.flare.such.provider.VirtualThreadDispatcherProvider;
 import com.yhy.http.flare.utils.Assert;
 import com.yhy.http.flare.utils.Opt;
+import com.yhy.http.flare.utils.ReflectUtils;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +46,10 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+import java.util.stream.IntStream;
 
 /**
  * 一个 HTTP 请求客户端
@@ -50,6 +63,8 @@ import java.util.*;
 @Slf4j
 @SuppressWarnings("unused")
 public class Flare {
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
     private final HttpUrl baseUrl;
     private final List<Interceptor> netInterceptors;
     private final List<Interceptor> interceptors;
@@ -60,14 +75,24 @@ public class Flare {
     private final MethodAnnotationDelegate methodAnnotationDelegate;
     private final ExceptionResolverDelegate exceptionResolverDelegate;
     private final OkHttpClient.Builder clientBuilder;
+    private final OkHttpClient client;
     private final CallAdapter.Factory callAdapterFactory;
-    private final BodyConverter.Factory bodyConverterFactory;
+    private final List<BodyConverter.Factory> bodyConverterFactories;
+    private final Map<Class<? extends BodyConverter.Factory>, BodyConverter.Factory> codecFactories;
     private final StringConverter.Factory stringConverterFactory;
     private final FormFieldConverter.Factory formFieldConverterFactory;
     private final SSLSocketFactory sslSocketFactory;
     private final X509TrustManager sslTrustManager;
     private final HostnameVerifier sslHostnameVerifier;
     private final boolean ignoreHttpStatus;
+    private final boolean hiddenClassProxy;
+    private final boolean parallelCompile;
+    private final Compress.Encoding compressEncoding;
+    private final long compressMinSize;
+    private final ForkJoinPool decodePool;
+    private final Map<Method, HttpHandler<?>> httpHandlerCache = new ConcurrentHashMap<>();
+    private final Map<Method, ThrowableDispatcher> dispatcherCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, StartupReport> startupReports = new ConcurrentHashMap<>();
 
     private Flare(Builder builder) {
         this.baseUrl = builder.baseUrl;
@@ -80,14 +105,21 @@ public class Flare {
         this.methodAnnotationDelegate = builder.methodAnnotationDelegate;
         this.exceptionResolverDelegate = builder.exceptionResolverDelegate;
         this.clientBuilder = builder.clientBuilder;
+        this.client = builder.clientBuilder.build();
         this.callAdapterFactory = builder.callAdapterFactory;
-        this.bodyConverterFactory = builder.bodyConverterFactory;
+        this.bodyConverterFactories = List.copyOf(builder.bodyConverterFactories);
+        this.codecFactories = new ConcurrentHashMap<>(builder.codecFactories);
         this.stringConverterFactory = builder.stringConverterFactory;
         this.formFieldConverterFactory = builder.formFieldConverterFactory;
         this.sslSocketFactory = builder.sslSocketFactory;
         this.sslTrustManager = builder.sslTrustManager;
         this.sslHostnameVerifier = builder.sslHostnameVerifier;
         this.ignoreHttpStatus = builder.ignoreHttpStatus;
+        this.hiddenClassProxy = builder.hiddenClassProxy;
+        this.parallelCompile = builder.parallelCompile;
+        this.compressEncoding = builder.compressEncoding;
+        this.compressMinSize = builder.compressMinSize;
+        this.decodePool = builder.decodePool;
     }
 
     /**
@@ -203,6 +235,31 @@ public class Flare {
         return ignoreHttpStatus;
     }
 
+    /**
+     * 接口方法的请求体压缩器
+     * <p>
+     * 方法上的 {@link Compress} 优先于接口上的 {@link Compress}，都没有时使用全局配置
+     *
+     * @param method 接口方法
+     * @return 请求体压缩器，不压缩时为空
+     */
+    public Opt<RequestCompressor> requestCompressor(Method method) {
+        Compress compress = methodAnnotationDelegate.apply(method, Compress.class).stream().findFirst().orElse(method.getDeclaringClass().getAnnotation(Compress.class));
+        if (null == compress) {
+            return Opt.ofNullable(RequestCompressor.of(compressEncoding, compressMinSize, Deflater.DEFAULT_COMPRESSION));
+        }
+        return Opt.ofNullable(RequestCompressor.of(compress.value(), compress.minSize() < 0 ? compressMinSize : compress.minSize(), compress.level()));
+    }
+
+    /**
+     * {@link com.yhy.http.flare.annotation.ParallelDecode} 使用的解析线程池
+     *
+     * @return 解析线程池，未配置时为 {@link ParallelRecordDecoder#defaultPool()}
+     */
+    public ForkJoinPool decodePool() {
+        return null != decodePool ? decodePool : ParallelRecordDecoder.defaultPool();
+    }
+
     /**
      * 请求发送处理器
      *
@@ -233,9 +290,10 @@ public class Flare {
      * @param <T>                  请求数据类型
      * @return 请求数据转换器
      */
-    @SuppressWarnings("unchecked")
     public <T> BodyConverter<T, RequestBody> requestConverter(Type type, Annotation[] parameterAnnotations) {
-        return (BodyConverter<T, RequestBody>) bodyConverterFactory.requestBodyConverter(type, parameterAnnotations, this);
+        BodyConverter<T, RequestBody> converter = requestConverter(Opt.empty(), type, parameterAnnotations);
+        Assert.notNull(converter, "Unable to create request converter for {}", type);
+        return converter;
     }
 
     /**
@@ -246,9 +304,135 @@ public class Flare {
      * @param <T>          响应数据类型
      * @return 响应数据转换器
      */
-    @SuppressWarnings("unchecked")
     public <T> BodyConverter<ResponseBody, T> responseConverter(Type responseType, Annotation[] annotations) {
-        return (BodyConverter<ResponseBody, T>) bodyConverterFactory.responseBodyConverter(responseType, annotations, this);
+        BodyConverter<ResponseBody, T> converter = responseConverter(Opt.empty(), responseType, annotations);
+        Assert.notNull(converter, "Unable to create response converter for {}", responseType);
+        return converter;
+    }
+
+    /**
+     * 请求数据转换器，使用接口方法上 {@link Codec} 指定的 BodyConverter.Factory
+     *
+     * @param method               接口方法
+     * @param type                 请求数据类型
+     * @param parameterAnnotations 请求数据注解
+     * @param <T>                  请求数据类型
+     * @return 请求数据转换器
+     */
+    public <T> BodyConverter<T, RequestBody> requestConverter(Method method, Type type, Annotation[] parameterAnnotations) {
+        BodyConverter<T, RequestBody> converter = requestConverter(codecFactory(method), type, parameterAnnotations);
+        if (null == converter) {
+            throw ReflectUtils.methodError(method, "Unable to create request converter for %s", type);
+        }
+        return converter;
+    }
+
+    /**
+     * 响应数据转换器，使用接口方法上 {@link Codec} 指定的 BodyConverter.Factory
+     *
+     * @param method       接口方法
+     * @param responseType 响应数据类型
+     * @param annotations  响应数据注解
+     * @param <T>          响应数据类型
+     * @return 响应数据转换器
+     */
+    public <T> BodyConverter<ResponseBody, T> responseConverter(Method method, Type responseType, Annotation[] annotations) {
+        BodyConverter<ResponseBody, T> converter = responseConverter(codecFactory(method), responseType, annotations);
+        if (null == converter) {
+            throw ReflectUtils.methodError(method, "Unable to create response converter for %s", responseType);
+        }
+        return converter;
+    }
+
+    /**
+     * 全部 BodyConverter.Factory，按添加顺序排列
+     *
+     * @return BodyConverter.Factory 列表
+     */
+    public List<BodyConverter.Factory> bodyConverterFactories() {
+        return bodyConverterFactories;
+    }
+
+    /**
+     * 接口方法优先使用的 BodyConverter.Factory
+     *
+     * @param method 接口方法
+     * @return 方法或接口上 {@link Codec} 指定的工厂，没有时为第一个工厂
+     */
+    public BodyConverter.Factory bodyConverterFactory(Method method) {
+        return codecFactory(method).orElse(bodyConverterFactories.getFirst());
+    }
+
+    /**
+     * 依次询问 @Codec 指定的工厂和全部工厂，第一个返回转换器的工厂生效
+     */
+    @SuppressWarnings("unchecked")
+    private <T> BodyConverter<T, RequestBody> requestConverter(Opt<BodyConverter.Factory> codec, Type type, Annotation[] parameterAnnotations) {
+        for (BodyConverter.Factory factory : candidateFactories(codec)) {
+            BodyConverter<?, RequestBody> converter = factory.requestBodyConverter(type, parameterAnnotations, this);
+            if (null != converter) {
+                return (BodyConverter<T, RequestBody>) converter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 第一个返回转换器的工厂作为默认转换器；其他声明了不同媒体类型的工厂也创建好转换器，
+     * 响应时按 Content-Type 选择，只有一个候选时直接返回默认转换器
+     */
+    @SuppressWarnings("unchecked")
+    private <T> BodyConverter<ResponseBody, T> responseConverter(Opt<BodyConverter.Factory> codec, Type responseType, Annotation[] annotations) {
+        BodyConverter<ResponseBody, T> primary = null;
+        MediaType primaryMediaType = null;
+        Map<String, BodyConverter<ResponseBody, T>> alternatives = new LinkedHashMap<>();
+        for (BodyConverter.Factory factory : candidateFactories(codec)) {
+            MediaType mediaType = factory.mediaType();
+            if (null != primary && (null == mediaType || NegotiatingBodyConverter.sameType(mediaType, primaryMediaType) || alternatives.containsKey(NegotiatingBodyConverter.key(mediaType)))) {
+                // 无法通过 Content-Type 区分的工厂不会被选中
+                continue;
+            }
+            BodyConverter<ResponseBody, T> converter = (BodyConverter<ResponseBody, T>) factory.responseBodyConverter(responseType, annotations, this);
+            if (null == converter) {
+                continue;
+            }
+            if (null == primary) {
+                primary = converter;
+                primaryMediaType = mediaType;
+            } else {
+                alternatives.put(NegotiatingBodyConverter.key(mediaType), converter);
+            }
+        }
+        if (null == primary || alternatives.isEmpty()) {
+            return primary;
+        }
+        return NegotiatingBodyConverter.of(primary, alternatives);
+    }
+
+    private List<BodyConverter.Factory> candidateFactories(Opt<BodyConverter.Factory> codec) {
+        if (codec.isInvalid()) {
+            return bodyConverterFactories;
+        }
+        List<BodyConverter.Factory> factories = new ArrayList<>(bodyConverterFactories.size() + 1);
+        factories.add(codec.get());
+        bodyConverterFactories.stream().filter(factory -> factory != codec.get()).forEach(factories::add);
+        return factories;
+    }
+
+    /**
+     * 接口方法上 {@link Codec} 指定的 BodyConverter.Factory
+     * <p>
+     * 方法上的注解优先于接口上的注解
+     *
+     * @param method 接口方法
+     * @return BodyConverter.Factory，没有指定时为空
+     */
+    public Opt<BodyConverter.Factory> codecFactory(Method method) {
+        Codec codec = methodAnnotationDelegate.apply(method, Codec.class).stream().findFirst().orElse(method.getDeclaringClass().getAnnotation(Codec.class));
+        if (null == codec) {
+            return Opt.empty();
+        }
+        return Opt.of(codecFactories.computeIfAbsent(codec.value(), ReflectUtils::newInstance));
     }
 
     /**
@@ -273,8 +457,44 @@ public class Flare {
         return clientBuilder;
     }
 
+    /**
+     * 全局共享的请求客户端
+     * <p>
+     * 连接池和分发器由所有接口方法共享，方法级客户端均由此派生
+     *
+     * @return 请求客户端
+     */
+    public OkHttpClient client() {
+        return client;
+    }
+
+    /**
+     * 启动报告
+     * <p>
+     * 每个接口只记录首次 {@link #create(Class)} 时的解析情况
+     *
+     * @return 启动报告
+     */
+    @NotNull
+    public List<StartupReport> startupReports() {
+        return List.copyOf(startupReports.values());
+    }
+
+    /**
+     * 指定接口的启动报告
+     *
+     * @param api 接口类
+     * @return 启动报告，接口未创建过时为空
+     */
+    public Opt<StartupReport> startupReport(Class<?> api) {
+        return Opt.ofNullable(startupReports.get(api));
+    }
+
     /**
      * 创建接口实例
+     * <p>
+     * 接口中的方法在创建时全部解析并缓存，首次请求不再解析注解，解析耗时记录在 {@link #startupReports()} 中。
+     * 接口实现按以下顺序选择：flare-processor 生成的实现类、开启 hiddenClassProxy 时生成的 hidden class、{@link Proxy}
      *
      * @param api 接口类，必须是接口类型
      * @param <T> 接口类型
@@ -283,7 +503,23 @@ public class Flare {
     @SuppressWarnings("unchecked")
     public <T> T create(Class<T> api) {
         Objects.requireNonNull(api, "api can not be null.");
+        long start = System.nanoTime();
         validateInterface(api);
+        GeneratedApi<T> generated = GeneratedApi.find(api);
+        compileInterface(api, start, null != generated);
+        if (null != generated) {
+            if (hiddenClassProxy) {
+                log.debug("[{}] has a generated implementation, hiddenClassProxy is not used.", api.getCanonicalName());
+            }
+            return generated.newInstance(this::methodInvoker);
+        }
+        if (hiddenClassProxy) {
+            try {
+                return HiddenClassProxyFactory.create(api, this::methodInvoker);
+            } catch (IllegalStateException | LinkageError e) {
+                log.warn("Unable to generate implementation for [{}], fall back to java.lang.reflect.Proxy.", api.getCanonicalName(), e);
+            }
+        }
         return (T) Proxy.newProxyInstance(api.getClassLoader(), new Class<?>[]{api}, this::proxyWithCatcher);
     }
 
@@ -299,17 +535,81 @@ public class Flare {
         if (api.getTypeParameters().length != 0) {
             throw new IllegalArgumentException("[" + api.getCanonicalName() + "] can not contains any typeParameter.");
         }
-        Arrays.stream(api.getDeclaredMethods()).filter(method -> !Modifier.isStatic(method.getModifiers())).forEach(this::loadHttpMethod);
+    }
+
+    /**
+     * 解析接口中的所有方法，开启 parallelCompile 时多个方法并行解析
+     * <p>
+     * 解析失败时按方法声明顺序抛出第一个异常，与串行解析的结果一致
+     *
+     * @param api       接口类
+     * @param start     开始时间
+     * @param generated 是否使用 flare-processor 生成的实现类
+     */
+    private void compileInterface(Class<?> api, long start, boolean generated) {
+        Method[] methods = Arrays.stream(api.getDeclaredMethods()).filter(method -> !Modifier.isStatic(method.getModifiers())).toArray(Method[]::new);
+        StartupReport.MethodReport[] reports = new StartupReport.MethodReport[methods.length];
+        RuntimeException[] errors = new RuntimeException[methods.length];
+        IntStream indexes = IntStream.range(0, methods.length);
+        if (parallelCompile && methods.length > 1) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                reports[i] = compileMethod(methods[i]);
+            } catch (RuntimeException e) {
+                errors[i] = e;
+            }
+        });
+        for (RuntimeException e : errors) {
+            if (null != e) {
+                throw e;
+            }
+        }
+
+        StartupReport report = new StartupReport(api, generated, Duration.ofNanos(System.nanoTime() - start), Arrays.asList(reports));
+        if (null == startupReports.putIfAbsent(api, report)) {
+            log.debug("Flare compiled {}", report);
+        }
+    }
+
+    /**
+     * 解析方法，提前创建 HttpHandler 和异常分发器
+     *
+     * @param method 方法
+     * @return 方法报告
+     */
+    private StartupReport.MethodReport compileMethod(Method method) {
+        long start = System.nanoTime();
+        HttpHandler<?> handler = loadHttpMethod(method);
+        loadDispatcher(method);
+        Duration compileTime = Duration.ofNanos(System.nanoTime() - start);
+
+        String httpMethod = null, callAdapter = null, responseConverter = null;
+        if (handler instanceof HttpHandlerAdapter<?, ?> adapter) {
+            httpMethod = adapter.requestFactory().httpMethod();
+            responseConverter = adapter.responseConverter().getClass().getName();
+            if (adapter instanceof HttpHandlerAdapter.AdaptedCaller<?, ?> caller) {
+                callAdapter = caller.callAdapter().getClass().getName();
+            }
+        }
+        return new StartupReport.MethodReport(method.getName(), httpMethod, compileTime, callAdapter, responseConverter);
     }
 
     /**
      * 加载方法对应的 HttpHandler
+     * <p>
+     * 注解只在首次加载时解析一次，之后直接从缓存中读取
      *
      * @param method 方法
      * @return HttpHandler
      */
     private HttpHandler<?> loadHttpMethod(Method method) {
-        return HttpHandlerAdapter.parseAnnotations(this, method);
+        HttpHandler<?> handler = httpHandlerCache.get(method);
+        if (null != handler) {
+            return handler;
+        }
+        return httpHandlerCache.computeIfAbsent(method, m -> HttpHandlerAdapter.parseAnnotations(this, m));
     }
 
     /**
@@ -322,32 +622,50 @@ public class Flare {
      * @throws Throwable 异常
      */
     private Object proxyWithCatcher(Object proxy, Method method, Object[] args) throws Throwable {
-        method.setAccessible(true);
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+        return invokeWithCatcher(method, loadDispatcher(method), loadHttpMethod(method), null != args ? args : EMPTY_ARGS);
+    }
+
+    /**
+     * 生成的接口实现类使用的方法调用器，HttpHandler 和异常分发器在创建时确定
+     *
+     * @param method 方法
+     * @return 方法调用器
+     */
+    private MethodInvoker methodInvoker(Method method) {
+        HttpHandler<?> handler = loadHttpMethod(method);
+        ThrowableDispatcher dispatcher = loadDispatcher(method);
+        return args -> invokeWithCatcher(method, dispatcher, handler, args);
+    }
 
+    /**
+     * 执行方法，添加异常捕获功能
+     *
+     * @param method     方法
+     * @param dispatcher 异常分发器
+     * @param handler    HttpHandler
+     * @param args       参数
+     * @return 方法返回值
+     * @throws Throwable 异常
+     */
+    private Object invokeWithCatcher(Method method, ThrowableDispatcher dispatcher, HttpHandler<?> handler, Object[] args) throws Throwable {
         // 是否已经忽略异常
-        if (method.isAnnotationPresent(ErrorIgnored.class)) {
+        if (dispatcher.errorIgnored()) {
             try {
-                return proxyInvoke(proxy, method, args);
+                return handler.invoke(args);
             } catch (Throwable e) {
                 log.error("Error occurred but ignored when trying to invoke the method {}", method.getName(), e);
             }
             return null;
         }
 
-        // 获取异常处理器注解
-        List<Catcher> catchers = new ArrayList<>();
-        Catchers catcher = method.getAnnotation(Catchers.class);
-        if (null != catcher && catcher.value().length > 0) {
-            catchers.addAll(Arrays.asList(catcher.value()));
-        }
-        if (method.isAnnotationPresent(Catcher.class)) {
-            catchers.add(method.getAnnotation(Catcher.class));
-        }
         // 执行方法
         try {
-            return proxyInvoke(proxy, method, args);
+            return handler.invoke(args);
         } catch (Throwable e) {
-            if (ThrowableDispatcher.dispatch(method, catchers, e, exceptionResolverDelegate)) {
+            if (dispatcher.dispatch(e)) {
                 // 异常已被处理
                 return null;
             }
@@ -357,19 +675,22 @@ public class Flare {
     }
 
     /**
-     * 执行代理方法
+     * 加载方法对应的异常分发器
+     * <p>
+     * 异常处理注解只在首次调用时解析一次
      *
-     * @param proxy  代理对象
      * @param method 方法
-     * @param args   参数
-     * @return 方法返回值
-     * @throws Throwable 异常
+     * @return 异常分发器
      */
-    private Object proxyInvoke(Object proxy, Method method, Object[] args) throws Throwable {
-        if (method.getDeclaringClass() == Object.class) {
-            return method.invoke(this, args);
+    private ThrowableDispatcher loadDispatcher(Method method) {
+        ThrowableDispatcher dispatcher = dispatcherCache.get(method);
+        if (null != dispatcher) {
+            return dispatcher;
         }
-        return loadHttpMethod(method).invoke(null != args ? args : new Object[0]);
+        return dispatcherCache.computeIfAbsent(method, m -> {
+            m.setAccessible(true);
+            return ThrowableDispatcher.of(m, exceptionResolverDelegate);
+        });
     }
 
     /**
@@ -400,14 +721,21 @@ public class Flare {
         private Boolean logEnabled;
         private Interceptor loggerInterceptor;
         private CallAdapter.Factory callAdapterFactory;
-        private BodyConverter.Factory bodyConverterFactory;
+        private final List<BodyConverter.Factory> bodyConverterFactories = new ArrayList<>();
+        private final Map<Class<? extends BodyConverter.Factory>, BodyConverter.Factory> codecFactories = new HashMap<>();
         private StringConverter.Factory stringConverterFactory;
         private FormFieldConverter.Factory formFieldConverterFactory;
         private SSLSocketFactory sslSocketFactory;
         private X509TrustManager sslTrustManager;
         private HostnameVerifier sslHostnameVerifier;
         private boolean ignoreHttpStatus;
+        private boolean hiddenClassProxy;
+        private boolean parallelCompile;
         private Duration timeout;
+        private Compress.Encoding compressEncoding = Compress.Encoding.IDENTITY;
+        private long compressMinSize = 1024;
+        private ForkJoinPool decodePool;
+        private boolean jsonAccelerator;
 
         /**
          * 配置 URL 前缀
@@ -553,6 +881,18 @@ public class Flare {
             return this;
         }
 
+        /**
+         * 带缓存的动态请求头
+         *
+         * @param header 动态支持
+         * @param ttl    缓存时间，毫秒，见 {@link CachedDynamicHeader}
+         * @return builder
+         */
+        public Builder header(Header.Dynamic header, long ttl) {
+            this.dynamicHeaders.add(CachedDynamicHeader.of(header, ttl));
+            return this;
+        }
+
         /**
          * 配置 CallAdapter.Factory 实例
          *
@@ -565,13 +905,32 @@ public class Flare {
         }
 
         /**
-         * 配置 BodyConverter.Factory 实例
+         * 添加 BodyConverter.Factory 实例
+         * <p>
+         * 可以添加多个，按添加顺序选择第一个支持该类型的工厂；其他声明了媒体类型的工厂用于按响应的 Content-Type 解析。
+         * 没有添加时使用 {@link JacksonConverterFactory}
          *
          * @param factory BodyConverter.Factory 实例
          * @return builder
          */
         public Builder bodyConverterFactory(BodyConverter.Factory factory) {
-            this.bodyConverterFactory = factory;
+            if (null != factory) {
+                this.bodyConverterFactories.add(factory);
+            }
+            return this;
+        }
+
+        /**
+         * 注册 {@link Codec} 使用的 BodyConverter.Factory 实例
+         * <p>
+         * {@link Codec} 指定该工厂的类时使用这个实例，不再通过空参数构造方法创建
+         *
+         * @param factory BodyConverter.Factory 实例
+         * @return builder
+         */
+        public Builder codecFactory(BodyConverter.Factory factory) {
+            Assert.notNull(factory, "factory can not be null.");
+            this.codecFactories.put(factory.getClass(), factory);
             return this;
         }
 
@@ -634,6 +993,78 @@ public class Flare {
             return this;
         }
 
+        /**
+         * 配置是否使用生成的接口实现类代替 {@link Proxy}
+         * <p>
+         * 开启后为每个接口生成一个 hidden class，方法直接调用已解析的 HttpHandler；
+         * 无法生成时（如接口所在类加载器不可见 Flare）自动退回 {@link Proxy}；接口已有 flare-processor 生成的实现类时优先使用生成类
+         *
+         * @param enabled 是否启用
+         * @return builder
+         */
+        public Builder hiddenClassProxy(boolean enabled) {
+            this.hiddenClassProxy = enabled;
+            return this;
+        }
+
+        /**
+         * 是否并行解析接口方法
+         * <p>
+         * 默认关闭。方法较多的接口开启后 {@link Flare#create(Class)} 使用公共 ForkJoinPool 并行解析注解和创建转换器，
+         * 自定义的转换器工厂、委托需要是线程安全的
+         *
+         * @param enabled 是否启用
+         * @return builder
+         */
+        public Builder parallelCompile(boolean enabled) {
+            this.parallelCompile = enabled;
+            return this;
+        }
+
+        /**
+         * 配置全局的请求体压缩
+         * <p>
+         * 接口或方法上的 {@link Compress} 优先，{@link Compress#minSize()} 小于 0 时也使用这里的 minSize
+         *
+         * @param encoding 压缩算法，{@link Compress.Encoding#IDENTITY} 表示不压缩
+         * @param minSize  最小压缩长度，字节，默认 1024
+         * @return builder
+         */
+        public Builder compress(Compress.Encoding encoding, long minSize) {
+            Assert.notNull(encoding, "encoding can not be null.");
+            this.compressEncoding = encoding;
+            this.compressMinSize = minSize;
+            return this;
+        }
+
+        /**
+         * 配置 {@link com.yhy.http.flare.annotation.ParallelDecode} 使用的解析线程池
+         * <p>
+         * 默认使用 {@link ParallelRecordDecoder#defaultPool()}，并行度为 CPU 核数，线程池由调用方负责关闭
+         *
+         * @param pool 解析线程池
+         * @return builder
+         */
+        public Builder decodePool(ForkJoinPool pool) {
+            Assert.notNull(pool, "pool can not be null.");
+            this.decodePool = pool;
+            return this;
+        }
+
+        /**
+         * 是否为默认的 JsonMapper 开启数据绑定加速
+         * <p>
+         * 默认关闭。开启后默认的 JSON 转换器注册 Blackbird 模块，需要引入 jackson-module-blackbird；
+         * 通过 {@link #bodyConverterFactory(BodyConverter.Factory)} 自定义转换器时不生效，可以使用 {@link JsonAccelerator#accelerate(JsonMapper)}
+         *
+         * @param enabled 是否启用
+         * @return builder
+         */
+        public Builder jsonAccelerator(boolean enabled) {
+            this.jsonAccelerator = enabled;
+            return this;
+        }
+
         /**
          * 配置超时时间
          *
@@ -687,7 +1118,13 @@ public class Flare {
             Assert.notNull(baseUrl, "baseUrl cannot be null");
 
             callAdapterFactory = Opt.ofNullable(callAdapterFactory).orElse(new GuavaCallAdapter());
-            bodyConverterFactory = Opt.ofNullable(bodyConverterFactory).orElse(new JacksonConverterFactory(JsonMapper.builderWithJackson2Defaults().build()));
+            if (bodyConverterFactories.isEmpty()) {
+                JsonMapper.Builder mapper = JsonMapper.builderWithJackson2Defaults();
+                if (jsonAccelerator) {
+                    JsonAccelerator.register(mapper);
+                }
+                bodyConverterFactories.add(new JacksonConverterFactory(mapper.build()));
+            }
             stringConverterFactory = Opt.ofNullable(stringConverterFactory).orElse(new StringConverterFactory());
             formFieldConverterFactory = Opt.ofNullable(formFieldConverterFactory).orElse(new FormFieldConverterFactory());
 
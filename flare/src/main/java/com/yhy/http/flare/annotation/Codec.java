@@ -0,0 +1,32 @@
+package com.yhy.http.flare.annotation;
+
+import com.yhy.http.flare.convert.BodyConverter;
+
+import java.lang.annotation.*;
+
+/**
+ * 指定接口或方法使用的 BodyConverter.Factory
+ * <p>
+ * 方法上的注解优先于接口上的注解，都没有时使用 Flare 的默认 BodyConverter.Factory。
+ * 工厂实例优先使用 {@link com.yhy.http.flare.Flare.Builder#codecFactory(BodyConverter.Factory)} 注册的实例，
+ * 否则通过空参数构造方法创建，每个 Flare 中同一个工厂类只创建一次。
+ * 工厂提供了 {@link BodyConverter.Factory#mediaType()} 时，@Body 请求体和 Accept 请求头使用该媒体类型。
+ * <p>
+ * Created on 2026-10-17 20:10
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Codec {
+
+    /**
+     * BodyConverter.Factory 类
+     *
+     * @return BodyConverter.Factory 类
+     */
+    Class<? extends BodyConverter.Factory> value();
+}
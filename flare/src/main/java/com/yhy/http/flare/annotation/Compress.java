@@ -0,0 +1,80 @@
+package com.yhy.http.flare.annotation;
+
+import java.lang.annotation.*;
+import java.util.zip.Deflater;
+
+/**
+ * 压缩请求体
+ * <p>
+ * 请求体在发送时边序列化边压缩，不在内存中保留压缩结果，并设置 Content-Encoding。
+ * 方法上的注解优先于接口上的注解，都没有时使用 {@link com.yhy.http.flare.Flare.Builder#compress(Encoding, long)} 的全局配置。
+ * 长度已知且小于 minSize 的请求体、空请求体和已经设置了 Content-Encoding 的请求不压缩。
+ * <p>
+ * Created on 2026-10-17 21:00
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Compress {
+
+    /**
+     * 压缩算法
+     *
+     * @return 压缩算法
+     */
+    Encoding value() default Encoding.GZIP;
+
+    /**
+     * 最小压缩长度，字节，小于 0 时使用全局配置
+     *
+     * @return 最小压缩长度
+     */
+    long minSize() default -1;
+
+    /**
+     * 压缩级别，0-9
+     *
+     * @return 压缩级别
+     */
+    int level() default Deflater.DEFAULT_COMPRESSION;
+
+    /**
+     * 压缩算法
+     */
+    enum Encoding {
+
+        /**
+         * gzip
+         */
+        GZIP("gzip"),
+
+        /**
+         * deflate，zlib 格式
+         */
+        DEFLATE("deflate"),
+
+        /**
+         * 不压缩，用于关闭接口或全局的压缩配置
+         */
+        IDENTITY("identity");
+
+        private final String value;
+
+        Encoding(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Content-Encoding 的值
+         *
+         * @return Content-Encoding 的值
+         */
+        public String value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.yhy.http.flare.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Server-Sent Events 的重连配置
+ * <p>
+ * 返回值为 {@code Flow.Publisher<ServerSentEvent<T>>} 的方法按 text/event-stream 读取响应，不需要这个注解也可以使用；
+ * 连接断开后按 retry 间隔重连，并通过 Last-Event-ID 请求头带上最近一次收到的事件 id，服务端的 retry 字段优先。
+ * <p>
+ * Created on 2026-10-17 23:45
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EventStream {
+
+    /**
+     * 默认重连间隔，毫秒
+     *
+     * @return 重连间隔
+     */
+    long retry() default 3000;
+
+    /**
+     * 连续重连次数上限，收到事件后重新计数，-1 表示不限制，0 表示不重连
+     *
+     * @return 连续重连次数上限
+     */
+    int maxReconnects() default -1;
+}
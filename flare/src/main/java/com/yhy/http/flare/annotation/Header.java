@@ -49,6 +49,15 @@ public @interface Header {
      */
     Class<? extends Dynamic> dynamic() default Dynamic.class;
 
+    /**
+     * 动态请求头缓存时间，毫秒
+     * <p>
+     * 仅对方法上的 dynamic 请求头生效，大于 0 时缓存 dynamic 的结果，见 {@link com.yhy.http.flare.such.header.CachedDynamicHeader}
+     *
+     * @return 缓存时间
+     */
+    long ttl() default 0;
+
     /**
 
      * * 动态构造请求头接口
@@ -63,5 +72,16 @@ public @interface Header {
          * @return 请求头
          */
         HttpHeader header(Method method);
+
+        /**
+         * 请求头有效期，只在启用缓存时使用
+         *
+         * @param method 动态代理类中的接口方法反射对象
+         * @param header 本次获取的请求头
+         * @return 有效期，毫秒，小于 0 时使用配置的缓存时间，等于 0 时不缓存
+         */
+        default long expiresIn(Method method, HttpHeader header) {
+            return -1;
+        }
     }
 }
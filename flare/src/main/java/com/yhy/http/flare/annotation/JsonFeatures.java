@@ -0,0 +1,52 @@
+package com.yhy.http.flare.annotation;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.SerializationFeature;
+
+import java.lang.annotation.*;
+
+/**
+ * 单个接口方法使用的 Jackson 特性
+ * <p>
+ * 标注在方法上时作用于响应数据的反序列化，标注在 @Body 参数上时作用于请求数据的序列化，
+ * 只影响当前方法，不修改全局的 JsonMapper
+ * <p>
+ * Created on 2026-10-17 19:10
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target({ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonFeatures {
+
+    /**
+     * 启用的序列化特性
+     *
+     * @return 序列化特性
+     */
+    SerializationFeature[] enableSerialization() default {};
+
+    /**
+     * 禁用的序列化特性
+     *
+     * @return 序列化特性
+     */
+    SerializationFeature[] disableSerialization() default {};
+
+    /**
+     * 启用的反序列化特性
+     *
+     * @return 反序列化特性
+     */
+    DeserializationFeature[] enableDeserialization() default {};
+
+    /**
+     * 禁用的反序列化特性
+     *
+     * @return 反序列化特性
+     */
+    DeserializationFeature[] disableDeserialization() default {};
+}
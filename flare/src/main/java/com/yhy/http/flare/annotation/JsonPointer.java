@@ -0,0 +1,30 @@
+package com.yhy.http.flare.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 只解析响应数据中 JSON Pointer 指向的部分
+ * <p>
+ * 例如 {@code @JsonPointer("/data/items")} 时方法返回类型对应 data.items 的值，
+ * 解析时指针以外的内容只做词法扫描后跳过，不创建任何对象。
+ * 指针在解析方法时编译，格式错误时直接抛出异常；响应中不存在该路径时按空内容处理，由 Jackson 抛出异常。
+ * 适用于 Jackson 系列的 BodyConverter，包括 Smile 和 CBOR。
+ * <p>
+ * Created on 2026-10-17 21:30
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonPointer {
+
+    /**
+     * JSON Pointer，RFC 6901 格式，例如 /data/items/0
+     *
+     * @return JSON Pointer
+     */
+    String value();
+}
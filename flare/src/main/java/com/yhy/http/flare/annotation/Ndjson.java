@@ -0,0 +1,21 @@
+package com.yhy.http.flare.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 按 NDJSON 发送流式请求体
+ * <p>
+ * 用在类型为 {@code Stream<T>}、{@code Iterator<T>} 或 {@code Flow.Publisher<T>} 的 {@link com.yhy.http.flare.annotation.param.Body} 参数上，
+ * 每个元素序列化为一行 JSON，Content-Type 为 application/x-ndjson；没有这个注解时按 JSON 数组发送。
+ * <p>
+ * Created on 2026-10-18 00:10
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Ndjson {
+}
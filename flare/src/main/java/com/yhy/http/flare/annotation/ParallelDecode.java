@@ -0,0 +1,31 @@
+package com.yhy.http.flare.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 并行解析大体量的 JSON 数组或 NDJSON 响应
+ * <p>
+ * 返回值为 {@code List<T>}、{@code Collection<T>} 或 {@code Stream<T>} 时，读取响应的同时按记录边界切分字节，
+ * 每 chunkSize 条记录作为一个任务交给 {@link com.yhy.http.flare.Flare.Builder#decodePool(java.util.concurrent.ForkJoinPool)} 解析，
+ * 结果保持响应中的顺序。首个非空白字符为 [ 时按 JSON 数组的顶层元素切分，否则按行切分 NDJSON。
+ * 返回 {@code Stream<T>} 时先解析全部记录，不再从响应体中逐个读取。
+ * 只对 {@link tools.jackson.databind.json.JsonMapper} 的 JSON 转换器生效，不能和 {@link Unwrap}、{@link JsonPointer} 一起使用。
+ * <p>
+ * Created on 2026-10-17 22:30
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ParallelDecode {
+
+    /**
+     * 每个解析任务的记录数
+     *
+     * @return 每个解析任务的记录数
+     */
+    int chunkSize() default 1024;
+}
@@ -0,0 +1,52 @@
+package com.yhy.http.flare.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 从响应的包装对象中直接取出数据字段
+ * <p>
+ * 例如响应为 {@code {"code":0,"message":"OK","data":{...}}} 时，方法可以直接声明 data 的类型作为返回值。
+ * 解析时逐个扫描顶层字段，只把数据字段解析为返回类型，其他字段跳过，不创建包装对象。
+ * 配置了状态字段时在同一次扫描中校验，状态不在 success 中时抛出 {@link com.yhy.http.flare.exception.HttpException}，
+ * 其 cause 为携带状态和消息的 {@link com.yhy.http.flare.exception.EnvelopeException}。
+ * 适用于 Jackson 系列的 BodyConverter，不能和 {@link JsonPointer} 一起使用。
+ * <p>
+ * Created on 2026-10-17 21:50
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Unwrap {
+
+    /**
+     * 数据字段名，缺失时返回 null
+     *
+     * @return 数据字段名
+     */
+    String value() default "data";
+
+    /**
+     * 状态字段名，为空时不校验状态
+     *
+     * @return 状态字段名
+     */
+    String status() default "";
+
+    /**
+     * 表示成功的状态值，按字符串比较
+     *
+     * @return 成功的状态值
+     */
+    String[] success() default {"0"};
+
+    /**
+     * 消息字段名，状态校验失败时作为异常信息
+     *
+     * @return 消息字段名
+     */
+    String message() default "message";
+}
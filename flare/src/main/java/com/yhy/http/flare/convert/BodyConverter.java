@@ -3,9 +3,11 @@ package com.yhy.http.flare.convert;
 import com.yhy.http.flare.Flare;
 import com.yhy.http.flare.annotation.Download;
 import com.yhy.http.flare.utils.DownloadFileUtils;
+import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.lang.annotation.Annotation;
@@ -128,6 +130,15 @@ public interface BodyConverter<F, T> {
          * @return 响应体转换器
          */
         BodyConverter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Flare flare);
+
+        /**
+         * 数据格式对应的媒体类型，用于 @Body 的 Content-Type 和 {@link com.yhy.http.flare.annotation.Codec} 的 Accept
+         *
+         * @return 媒体类型，未知时为 null
+         */
+        default @Nullable MediaType mediaType() {
+            return null;
+        }
     }
 
     @FunctionalInterface
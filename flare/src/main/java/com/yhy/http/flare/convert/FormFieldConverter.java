@@ -6,6 +6,7 @@ import com.yhy.http.flare.model.FormField;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 对象字段转换器
@@ -29,6 +30,22 @@ public interface FormFieldConverter<T> {
      */
     List<FormField<?>> convert(String name, T value, boolean encoded, String defaultValue);
 
+    /**
+     * 转换对象字段，直接交给 sink 处理，不创建中间列表
+     *
+     * @param name         字段名称或者前缀
+     * @param value        对象
+     * @param encoded      是否已编码
+     * @param defaultValue 默认值
+     * @param sink         字段处理
+     */
+    default void convert(String name, T value, boolean encoded, String defaultValue, Consumer<FormField<?>> sink) {
+        List<FormField<?>> fields = convert(name, value, encoded, defaultValue);
+        if (null != fields) {
+            fields.forEach(sink);
+        }
+    }
+
     /**
 
      * * 转换工厂接口
@@ -0,0 +1,41 @@
+package com.yhy.http.flare.exception;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 响应包装对象中的状态校验失败
+ * <p>
+ * 由 {@link com.yhy.http.flare.annotation.Unwrap} 的转换器抛出，发送请求时会被包装为 {@link HttpException}
+ * <p>
+ * Created on 2026-10-17 21:55
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Getter
+public class EnvelopeException extends RuntimeException {
+
+    /**
+     * 状态字段的值，缺失时为 null
+     */
+    private final String status;
+
+    /**
+     * 消息字段的值，缺失时为 null
+     */
+    private final String statusMessage;
+
+    /**
+     * 创建 EnvelopeException 实例。
+     *
+     * @param status        状态
+     * @param statusMessage 消息
+     */
+    public EnvelopeException(@Nullable String status, @Nullable String statusMessage) {
+        super("Unexpected response status " + status + (null != statusMessage ? ": " + statusMessage : ""));
+        this.status = status;
+        this.statusMessage = statusMessage;
+    }
+}
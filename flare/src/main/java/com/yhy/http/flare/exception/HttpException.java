@@ -29,6 +29,18 @@ public class HttpException extends RuntimeException {
         this.response = response;
     }
 
+    /**
+     * 创建 HttpException 实例。
+     *
+     * @param response 值
+     * @param cause    原因
+     */
+    public HttpException(InternalResponse<?> response, Throwable cause) {
+        super(parseMessage(response) + ": " + cause.getMessage(), cause);
+        this.code = response.getStatusCode();
+        this.response = response;
+    }
+
     private static String parseMessage(InternalResponse<?> response) {
         Assert.notNull(response, "response cannot be null");
         return "HTTP " + response.getStatusCode() + " " + response.getMessage();
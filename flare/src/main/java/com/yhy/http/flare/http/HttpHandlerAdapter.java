@@ -5,6 +5,7 @@ import com.yhy.http.flare.call.CallAdapter;
 import com.yhy.http.flare.call.Caller;
 import com.yhy.http.flare.convert.BodyConverter;
 import com.yhy.http.flare.http.request.RequestFactory;
+import com.yhy.http.flare.such.adapter.EventStreamCallAdapter;
 import com.yhy.http.flare.such.call.OkCaller;
 import com.yhy.http.flare.utils.Assert;
 import com.yhy.http.flare.utils.ReflectUtils;
@@ -34,6 +35,24 @@ public abstract class HttpHandlerAdapter<R, T> implements HttpHandler<T> {
         this.responseConverter = responseConverter;
     }
 
+    /**
+     * 请求创建工厂
+     *
+     * @return 请求创建工厂
+     */
+    public RequestFactory requestFactory() {
+        return requestFactory;
+    }
+
+    /**
+     * 响应数据转换器
+     *
+     * @return 响应数据转换器
+     */
+    public BodyConverter<ResponseBody, R> responseConverter() {
+        return responseConverter;
+    }
+
     /**
      * 执行调用。
      *
@@ -73,19 +92,23 @@ public abstract class HttpHandlerAdapter<R, T> implements HttpHandler<T> {
     private static <R, T> HttpHandlerAdapter<R, T> parseAnnotations(Flare flare, Method method, RequestFactory factory) {
         Type returnType = method.getGenericReturnType();
         Annotation[] annotations = method.getAnnotations();
-        CallAdapter<R, T> callAdapter = createCallAdapter(flare, annotations, returnType);
+        CallAdapter<R, T> callAdapter = createCallAdapter(flare, method, factory, annotations, returnType);
         Type responseType = callAdapter.responseType();
-        BodyConverter<ResponseBody, R> responseConverter = createResponseConverter(flare, annotations, responseType);
+        BodyConverter<ResponseBody, R> responseConverter = createResponseConverter(flare, method, annotations, responseType);
 
         return new AdaptedCaller<>(factory, flare, responseConverter, callAdapter);
     }
 
-    private static <R> BodyConverter<ResponseBody, R> createResponseConverter(Flare flare, Annotation[] annotations, Type responseType) {
-        return flare.responseConverter(responseType, annotations);
+    private static <R> BodyConverter<ResponseBody, R> createResponseConverter(Flare flare, Method method, Annotation[] annotations, Type responseType) {
+        return flare.responseConverter(method, responseType, annotations);
     }
 
     @SuppressWarnings("unchecked")
-    private static <R, T> CallAdapter<R, T> createCallAdapter(Flare flare, Annotation[] annotations, Type returnType) {
+    private static <R, T> CallAdapter<R, T> createCallAdapter(Flare flare, Method method, RequestFactory factory, Annotation[] annotations, Type returnType) {
+        // 事件流不经过自定义的 CallAdapter.Factory，每次连接都由 RequestFactory 重新创建请求
+        if (EventStreamCallAdapter.isEventStream(returnType)) {
+            return (CallAdapter<R, T>) EventStreamCallAdapter.create(method, factory, flare);
+        }
         return (CallAdapter<R, T>) flare.callAdapter(returnType, annotations);
     }
 
@@ -101,6 +124,15 @@ public abstract class HttpHandlerAdapter<R, T> implements HttpHandler<T> {
             this.callAdapter = callAdapter;
         }
 
+        /**
+         * 请求发送处理器
+         *
+         * @return 请求发送处理器
+         */
+        public CallAdapter<R, T> callAdapter() {
+            return callAdapter;
+        }
+
         /**
          * 适配调用。
          *
@@ -1,24 +1,25 @@
 package com.yhy.http.flare.http.request;
 
 import com.google.gson.internal.LinkedTreeMap;
+import com.yhy.http.flare.model.FlareConst;
 import com.yhy.http.flare.model.FormField;
-import com.yhy.http.flare.utils.Opt;
+import com.yhy.http.flare.such.compress.RequestCompressor;
 import com.yhy.http.flare.utils.StringUtils;
+import com.yhy.http.flare.utils.UrlUtils;
 import lombok.Setter;
 import okhttp3.*;
 import okhttp3.internal.http.HttpMethod;
 import okio.BufferedSink;
-import org.apache.commons.collections4.MapUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  *
@@ -30,43 +31,44 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public class RequestBuilder {
-    private final HttpUrl baseUrl;
+    private static final RequestBody EMPTY_JSON_BODY = RequestBody.create(new byte[0], FlareConst.MediaTypes.APPLICATION_JSON);
+
+    private final UrlTemplate urlTemplate;
     private final String method;
     private final Request.Builder requestBuilder;
     private final Headers.Builder headersBuilder;
+    private final Set<String> localHeaderNames;
+    private final RequestCompressor compressor;
 
-    private final Map<String, Object> pathParamMap;
-    private final Map<String, List<FormField.ValueFormField>> queryParamMap;
-    private final Map<String, List<FormField<?>>> formFieldParamMap;
-
-    @Setter
-    private String relativeUrl;
+    private final String[] pathValues;
+    private Map<String, List<FormField.ValueFormField>> queryParamMap;
+    private Map<String, List<FormField<?>>> formFieldParamMap;
 
     @Setter
     private String absoluteUrl;
 
+    private Set<String> overriddenHeaderNames;
     private MediaType contentType;
     private RequestBody body;
     private MultipartBody.Builder multipartBuilder;
     private FormBody.Builder formBuilder;
 
-    RequestBuilder(String method, HttpUrl baseUrl, @Nullable String relativeUrl, @Nullable Headers headers, @Nullable MediaType contentType, boolean isFormData, boolean isX3WFormUrlEncoded) {
-        this.baseUrl = baseUrl;
+    RequestBuilder(String method, UrlTemplate urlTemplate, Headers staticHeaders, Set<String> localHeaderNames, @Nullable MediaType contentType, boolean isFormData, boolean isX3WFormUrlEncoded, @Nullable RequestCompressor compressor) {
+        this.urlTemplate = urlTemplate;
+        this.compressor = compressor;
         this.method = method;
-        this.relativeUrl = relativeUrl;
         this.requestBuilder = new Request.Builder();
         this.contentType = contentType;
-        this.headersBuilder = Opt.ofNullable(headers).map(Headers::newBuilder).orElse(new Headers.Builder());
+        this.headersBuilder = staticHeaders.newBuilder();
+        this.localHeaderNames = localHeaderNames;
         // form-data 和 x-www-form-urlencoded 设置 body
         if (isX3WFormUrlEncoded) {
             this.formBuilder = new FormBody.Builder();
         } else if (isFormData) {
             this.multipartBuilder = new MultipartBody.Builder().setType(MultipartBody.FORM);
         }
-        // 临时记录各种参数
-        this.pathParamMap = new LinkedTreeMap<>();
-        this.queryParamMap = new LinkedTreeMap<>();
-        this.formFieldParamMap = new LinkedTreeMap<>();
+        // 临时记录各种参数，query 和 form 参数在第一次添加时才创建
+        this.pathValues = new String[urlTemplate.placeholderCount()];
     }
 
     /**
@@ -80,6 +82,7 @@ public class RequestBuilder {
             contentType = MediaType.get(value);
         }
         headersBuilder.set(name, value);
+        markOverridden(name);
     }
 
     /**
@@ -88,7 +91,46 @@ public class RequestBuilder {
      * @param headers 值
      */
     public void addHeaders(Headers headers) {
-        headersBuilder.addAll(headers);
+        for (int i = 0, size = headers.size(); i < size; i++) {
+            addLocalHeader(headers.name(i), headers.value(i));
+        }
+    }
+
+    /**
+     * 添加方法级 Header，与方法级静态 Header 同名时追加，否则覆盖全局 Header
+     *
+     * @param name  名称
+     * @param value 值
+     */
+    public void addLocalHeader(String name, String value) {
+        if (!isLocalHeader(name)) {
+            headersBuilder.removeAll(name);
+            markOverridden(name);
+        }
+        headersBuilder.add(name, value);
+    }
+
+    /**
+     * 添加兜底 Header，只在没有方法级或参数级同名 Header 时生效
+     *
+     * @param name  名称
+     * @param value 值
+     */
+    public void addFallbackHeader(String name, String value) {
+        if (!isLocalHeader(name)) {
+            headersBuilder.set(name, value);
+        }
+    }
+
+    private boolean isLocalHeader(String name) {
+        return localHeaderNames.contains(name) || null != overriddenHeaderNames && overriddenHeaderNames.contains(name);
+    }
+
+    private void markOverridden(String name) {
+        if (null == overriddenHeaderNames) {
+            overriddenHeaderNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        overriddenHeaderNames.add(name);
     }
 
     /**
@@ -99,7 +141,12 @@ public class RequestBuilder {
      * @param encoded 值
      */
     public void addPathParam(String name, String value, boolean encoded) {
-        pathParamMap.put(name, dispatchEncode(value, encoded));
+        String encodedValue = encoded ? value : UrlUtils.encodePathSegment(value);
+        for (int i = 0; i < pathValues.length; i++) {
+            if (urlTemplate.name(i).equals(name)) {
+                pathValues[i] = encodedValue;
+            }
+        }
     }
 
     /**
@@ -109,7 +156,15 @@ public class RequestBuilder {
      * @param value 值
      */
     public void addQueryParam(String name, FormField.ValueFormField value) {
-        queryParamMap.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+        if (null == queryParamMap) {
+            queryParamMap = new LinkedTreeMap<>();
+        }
+        List<FormField.ValueFormField> values = queryParamMap.get(name);
+        if (null == values) {
+            values = new ArrayList<>(1);
+            queryParamMap.put(name, values);
+        }
+        values.add(value);
     }
 
     /**
@@ -119,7 +174,15 @@ public class RequestBuilder {
      * @param formField 值
      */
     public void addFiled(String name, FormField<?> formField) {
-        formFieldParamMap.computeIfAbsent(name, k -> new ArrayList<>()).add(formField);
+        if (null == formFieldParamMap) {
+            formFieldParamMap = new LinkedTreeMap<>();
+        }
+        List<FormField<?>> values = formFieldParamMap.get(name);
+        if (null == values) {
+            values = new ArrayList<>(1);
+            formFieldParamMap.put(name, values);
+        }
+        values.add(formField);
     }
 
     /**
@@ -147,90 +210,36 @@ public class RequestBuilder {
      * @return 处理结果
      */
     public Request.Builder get() {
-        HttpUrl.Builder urlBuilder = urlBuilder();
-        if (MapUtils.isNotEmpty(queryParamMap)) {
+        HttpUrl url = baseUrl();
+        if (null != queryParamMap) {
             // 带参数的url
-            queryParamMap.forEach((name, values) -> values.forEach(val -> {
-                if (val.isEncoded()) {
-                    urlBuilder.addEncodedQueryParameter(name, Opt.ofNullable(val.getValue()).orElse(val.getDefaultValue()));
-                } else {
-                    urlBuilder.addQueryParameter(name, Opt.ofNullable(val.getValue()).orElse(val.getDefaultValue()));
+            HttpUrl.Builder urlBuilder = url.newBuilder();
+            for (Map.Entry<String, List<FormField.ValueFormField>> et : queryParamMap.entrySet()) {
+                String name = et.getKey();
+                List<FormField.ValueFormField> values = et.getValue();
+                for (int i = 0, size = values.size(); i < size; i++) {
+                    FormField.ValueFormField val = values.get(i);
+                    if (val.isEncoded()) {
+                        urlBuilder.addEncodedQueryParameter(name, valueOf(val));
+                    } else {
+                        urlBuilder.addQueryParameter(name, valueOf(val));
+                    }
                 }
-            }));
+            }
+            url = urlBuilder.build();
         }
-        HttpUrl url = urlBuilder.build();
-
-        if (MapUtils.isNotEmpty(formFieldParamMap)) {
-            formFieldParamMap.forEach((name, values) -> values.stream().filter(Objects::nonNull).forEach(val -> {
-                switch (val) {
-                    case FormField.ValueFormField valueFormField -> {
-                        if (null != formBuilder) {
-                            if (valueFormField.isEncoded()) {
-                                formBuilder.addEncoded(name, Opt.ofNullable(valueFormField.getValue()).orElse(valueFormField.getDefaultValue()));
-                            } else {
-                                formBuilder.add(name, Opt.ofNullable(valueFormField.getValue()).orElse(valueFormField.getDefaultValue()));
-                            }
-                        }
-                        if (null != multipartBuilder) {
-                            multipartBuilder.addFormDataPart(name, Opt.ofNullable(valueFormField.getValue()).orElse(valueFormField.getDefaultValue()));
-                        }
-                    }
-                    case FormField.FileFormField fileFormField -> {
-                        if (null != multipartBuilder && Objects.nonNull(fileFormField.getValue())) {
-                            RequestBody fileBody = RequestBody.create(fileFormField.getValue(), MediaType.parse("application/octet-stream"));
-                            multipartBuilder.addFormDataPart(name, fileFormField.getFilename(), fileBody);
-                        }
-                    }
-                    case FormField.BytesFormField bytesFormField -> {
-                        if (null != multipartBuilder && Objects.nonNull(bytesFormField.getValue())) {
-                            RequestBody fileBody = RequestBody.create(bytesFormField.getValue(), MediaType.parse("application/octet-stream"));
-                            multipartBuilder.addFormDataPart(name, bytesFormField.getFilename(), fileBody);
-                        }
-                    }
-                    case FormField.InputStreamFormField inputStreamFormField -> {
-                        if (null != multipartBuilder && Objects.nonNull(inputStreamFormField.getValue())) {
-                            RequestBody streamBody = new RequestBody() {
-                                /**
-                                 * content Type。
-                                 *
-                                 * @return 处理结果
-                                 */
-                                @Override
-                                public MediaType contentType() {
-                                    return MediaType.parse("application/octet-stream");
-                                }
 
-                                /**
-                                 * write To。
-                                 *
-                                 * @param sink 值
-                                 * @throws IOException 调用异常
-                                 */
-                                @Override
-                                public void writeTo(@NotNull BufferedSink sink) throws IOException {
-                                    byte[] buffer = new byte[8192];
-                                    int len;
-                                    while ((len = inputStreamFormField.getValue().read(buffer)) != -1) {
-                                        sink.write(buffer, 0, len);
-                                    }
-                                }
-
-                                /**
-                                 * 判断请求体是否只能写入一次。
-                                 *
-                                 * @return 固定返回 true，InputStream 无法安全重复读取
-                                 */
-                                @Override
-                                public boolean isOneShot() {
-                                    return true;
-                                }
-                            };
-                            multipartBuilder.addFormDataPart(name, inputStreamFormField.getFilename(), streamBody);
-                        }
+        if (null != formFieldParamMap) {
+            for (Map.Entry<String, List<FormField<?>>> et : formFieldParamMap.entrySet()) {
+                String name = et.getKey();
+                List<FormField<?>> values = et.getValue();
+                for (int i = 0, size = values.size(); i < size; i++) {
+                    FormField<?> val = values.get(i);
+                    if (null != val) {
+                        addFormField(name, val);
                     }
-                    default -> throw new IllegalArgumentException("Unsupported form field type: " + val.getClass());
                 }
-            }));
+            }
         }
 
         if (null == body) {
@@ -240,7 +249,16 @@ public class RequestBuilder {
                 body = multipartBuilder.build();
             } else if (HttpMethod.requiresRequestBody(method)) {
                 // 如果强行有body，则设置个空body
-                body = RequestBody.create(new byte[0], MediaType.parse("application/json"));
+                body = EMPTY_JSON_BODY;
+            }
+        }
+
+        if (null != compressor && null != body && null == headersBuilder.get("Content-Encoding")) {
+            // 已经设置了 Content-Encoding 的请求体由调用方自行编码
+            RequestBody compressed = compressor.compress(body);
+            if (compressed != body) {
+                body = compressed;
+                headersBuilder.set("Content-Encoding", compressor.contentEncoding());
             }
         }
 
@@ -250,37 +268,103 @@ public class RequestBuilder {
         return requestBuilder
             .url(url)
             .headers(headersBuilder.build())
-            .method(method.toUpperCase(), body);
+            .method(method, body);
     }
 
-    private HttpUrl.Builder urlBuilder() {
-        HttpUrl.Builder urlBuilder;
-        // 如果是绝对 url，直接使用 absolute url 构建 request
-        if (StringUtils.hasText(absoluteUrl)) {
-            // 处理 path 参数
-            if (MapUtils.isNotEmpty(pathParamMap)) {
-                // 存在 path 参数
-                absoluteUrl = StringUtils.format(absoluteUrl, pathParamMap);
+    private void addFormField(String name, FormField<?> val) {
+        switch (val) {
+            case FormField.ValueFormField valueFormField -> {
+                if (null != formBuilder) {
+                    if (valueFormField.isEncoded()) {
+                        formBuilder.addEncoded(name, valueOf(valueFormField));
+                    } else {
+                        formBuilder.add(name, valueOf(valueFormField));
+                    }
+                }
+                if (null != multipartBuilder) {
+                    multipartBuilder.addFormDataPart(name, valueOf(valueFormField));
+                }
             }
-            urlBuilder = HttpUrl.get(absoluteUrl).newBuilder();
-        } else {
-            urlBuilder = baseUrl.newBuilder();
-            // 处理 path 参数
-            if (MapUtils.isNotEmpty(pathParamMap)) {
-                // 存在 path 参数
-                relativeUrl = StringUtils.format(relativeUrl, pathParamMap);
+            case FormField.FileFormField fileFormField -> {
+                if (null != multipartBuilder && Objects.nonNull(fileFormField.getValue())) {
+                    RequestBody fileBody = RequestBody.create(fileFormField.getValue(), FlareConst.MediaTypes.APPLICATION_OCTET_STREAM);
+                    multipartBuilder.addFormDataPart(name, fileFormField.getFilename(), fileBody);
+                }
             }
-            // 设置 path
-            // 去除 path 前的 /
-            if (relativeUrl.startsWith("/")) {
-                relativeUrl = relativeUrl.replaceAll("^/+", "");
+            case FormField.BytesFormField bytesFormField -> {
+                if (null != multipartBuilder && Objects.nonNull(bytesFormField.getValue())) {
+                    RequestBody fileBody = RequestBody.create(bytesFormField.getValue(), FlareConst.MediaTypes.APPLICATION_OCTET_STREAM);
+                    multipartBuilder.addFormDataPart(name, bytesFormField.getFilename(), fileBody);
+                }
             }
-            urlBuilder.addPathSegments(relativeUrl);
+            case FormField.InputStreamFormField inputStreamFormField -> {
+                if (null != multipartBuilder && Objects.nonNull(inputStreamFormField.getValue())) {
+                    RequestBody streamBody = new RequestBody() {
+                        /**
+                         * content Type。
+                         *
+                         * @return 处理结果
+                         */
+                        @Override
+                        public MediaType contentType() {
+                            return FlareConst.MediaTypes.APPLICATION_OCTET_STREAM;
+                        }
+
+                        /**
+                         * write To。
+                         *
+                         * @param sink 值
+                         * @throws IOException 调用异常
+                         */
+                        @Override
+                        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+                            byte[] buffer = new byte[8192];
+                            int len;
+                            while ((len = inputStreamFormField.getValue().read(buffer)) != -1) {
+                                sink.write(buffer, 0, len);
+                            }
+                        }
+
+                        /**
+                         * 判断请求体是否只能写入一次。
+                         *
+                         * @return 固定返回 true，InputStream 无法安全重复读取
+                         */
+                        @Override
+                        public boolean isOneShot() {
+                            return true;
+                        }
+                    };
+                    multipartBuilder.addFormDataPart(name, inputStreamFormField.getFilename(), streamBody);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported form field type: " + val.getClass());
         }
-        return urlBuilder;
     }
 
-    private String dispatchEncode(String value, boolean encoded) {
-        return encoded ? value : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    /**
+     * 取参数值，空白值使用默认值，与 Opt.orElse 的判定保持一致
+     */
+    private static String valueOf(FormField.ValueFormField field) {
+        String value = field.getValue();
+        return StringUtils.isNotBlank(value) ? value : field.getDefaultValue();
+    }
+
+    private HttpUrl baseUrl() {
+        // 如果是绝对 url，直接使用 absolute url 构建 request
+        if (StringUtils.hasText(absoluteUrl)) {
+            // 处理 path 参数
+            if (pathValues.length > 0) {
+                Map<String, Object> pathParamMap = new LinkedTreeMap<>();
+                for (int i = 0; i < pathValues.length; i++) {
+                    if (null != pathValues[i]) {
+                        pathParamMap.put(urlTemplate.name(i), pathValues[i]);
+                    }
+                }
+                return HttpUrl.get(StringUtils.format(absoluteUrl, pathParamMap));
+            }
+            return HttpUrl.get(absoluteUrl);
+        }
+        return urlTemplate.expand(pathValues);
     }
 }
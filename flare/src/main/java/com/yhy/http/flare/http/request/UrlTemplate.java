@@ -0,0 +1,209 @@
+package com.yhy.http.flare.http.request;
+
+import com.yhy.http.flare.utils.UrlUtils;
+import okhttp3.HttpUrl;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 预编译的相对 URL 模板
+ * <p>
+ * 在解析方法注解时把 {@code /user/{id}/detail?from=x} 拆分为字面量和占位符，字面量提前编码，
+ * 每次请求只需把已编码的 path 参数按顺序拼接一次。
+ * <p>
+ * Created on 2026-10-17 10:12
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class UrlTemplate {
+    private static final Pattern REGEX_PLACEHOLDER = Pattern.compile("\\{([a-zA-Z][a-zA-Z0-9_-]*)}");
+
+    private final String template;
+    private final String[] literals;
+    private final String[] names;
+    private final boolean[] wholeSegments;
+    private final String query;
+    private final Set<String> paramNames;
+
+    @Nullable
+    private final HttpUrl base;
+    @Nullable
+    private final String basePath;
+    @Nullable
+    private final HttpUrl staticUrl;
+    private final int literalLength;
+
+    private UrlTemplate(String template, String[] literals, String[] names, boolean[] wholeSegments, String query, Set<String> paramNames, @Nullable HttpUrl base) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
+        this.wholeSegments = wholeSegments;
+        this.query = query;
+        this.paramNames = paramNames;
+        this.base = base;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+
+        if (null != base) {
+            String path = base.encodedPath();
+            this.basePath = path.endsWith("/") ? path : path + "/";
+            // 不含占位符时整个 URL 在编译期就能确定
+            this.staticUrl = names.length == 0 ? base.newBuilder().encodedPath(basePath + literals[0]).encodedQuery(query).build() : null;
+        } else {
+            this.basePath = null;
+            this.staticUrl = null;
+        }
+    }
+
+    /**
+     * 编译相对 URL 模板
+     *
+     * @param template 相对 URL，可以包含 {name} 占位符和固定的查询参数
+     * @return 模板
+     */
+    public static UrlTemplate parse(String template) {
+        String path = template;
+        String query = null;
+        int index = path.indexOf('?');
+        if (index >= 0) {
+            query = index < path.length() - 1 ? path.substring(index + 1) : null;
+            path = path.substring(0, index);
+        }
+        // 去除 path 前的 /，统一拼接在 base path 之后
+        int start = 0;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        path = path.substring(start);
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Boolean> wholeSegments = new ArrayList<>();
+        Matcher matcher = REGEX_PLACEHOLDER.matcher(path);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(UrlUtils.encodePath(path.substring(last, matcher.start())));
+            names.add(matcher.group(1));
+            boolean segmentStart = matcher.start() == 0 || path.charAt(matcher.start() - 1) == '/';
+            boolean segmentEnd = matcher.end() == path.length() || path.charAt(matcher.end()) == '/';
+            wholeSegments.add(segmentStart && segmentEnd);
+            last = matcher.end();
+        }
+        literals.add(UrlUtils.encodePath(path.substring(last)));
+
+        boolean[] whole = new boolean[wholeSegments.size()];
+        for (int i = 0; i < whole.length; i++) {
+            whole[i] = wholeSegments.get(i);
+        }
+        return new UrlTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]), whole, query, new LinkedHashSet<>(names), null);
+    }
+
+    /**
+     * 绑定 base url
+     *
+     * @param base base url
+     * @return 绑定后的模板
+     */
+    public UrlTemplate withBase(HttpUrl base) {
+        return new UrlTemplate(template, literals, names, wholeSegments, query, paramNames, base);
+    }
+
+    /**
+     * 原始模板
+     *
+     * @return 原始模板
+     */
+    public String template() {
+        return template;
+    }
+
+    /**
+     * 模板中的占位符名称
+     *
+     * @return 占位符名称
+     */
+    public Set<String> paramNames() {
+        return paramNames;
+    }
+
+    /**
+     * 占位符个数，同名占位符按出现次数计算
+     *
+     * @return 占位符个数
+     */
+    public int placeholderCount() {
+        return names.length;
+    }
+
+    /**
+     * 第 index 个占位符的名称
+     *
+     * @param index 下标
+     * @return 名称
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * 按占位符顺序展开 URL
+     *
+     * @param values 已编码的占位符值，与 {@link #name(int)} 一一对应
+     * @return 完整 URL
+     */
+    public HttpUrl expand(String[] values) {
+        if (null == base) {
+            throw new IllegalStateException("UrlTemplate \"" + template + "\" is not bound to a base url.");
+        }
+        if (null != staticUrl) {
+            return staticUrl;
+        }
+        return base.newBuilder().encodedPath(expandPath(values)).encodedQuery(query).build();
+    }
+
+    private String expandPath(String[] values) {
+        int length = basePath.length() + literalLength;
+        for (int i = 0; i < names.length; i++) {
+            String value = values[i];
+            if (null == value) {
+                throw new IllegalArgumentException("Path parameter \"" + names[i] + "\" value must not be null.");
+            }
+            if (wholeSegments[i] && isDotSegment(value)) {
+                throw new IllegalArgumentException("@Path parameters shouldn't perform path traversal ('.' or '..'): " + names[i] + " = " + value);
+            }
+            length += value.length();
+        }
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(basePath).append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            sb.append(values[i]).append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isDotSegment(String value) {
+        return ".".equals(value) || "..".equals(value) || "%2e".equalsIgnoreCase(value) || "%2e%2e".equalsIgnoreCase(value) || ".%2e".equalsIgnoreCase(value) || "%2e.".equalsIgnoreCase(value);
+    }
+
+    /**
+     * 转换为字符串。
+     *
+     * @return 原始模板
+     */
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -4,10 +4,10 @@ import com.yhy.http.flare.convert.BodyConverter;
 import com.yhy.http.flare.convert.FormFieldConverter;
 import com.yhy.http.flare.convert.StringConverter;
 import com.yhy.http.flare.http.request.RequestBuilder;
+import com.yhy.http.flare.model.FlareConst;
 import com.yhy.http.flare.model.FormField;
-import com.yhy.http.flare.utils.Assert;
-import com.yhy.http.flare.utils.Opt;
 import com.yhy.http.flare.utils.ReflectUtils;
+import com.yhy.http.flare.utils.StringUtils;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okio.BufferedSink;
@@ -19,7 +19,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -95,6 +94,12 @@ public abstract class ParameterHandler<T> {
         };
     }
 
+    private static void addQueryParam(RequestBuilder builder, FormField<?> field) {
+        if (field instanceof FormField.ValueFormField valueFormField) {
+            builder.addQueryParam(valueFormField.getName(), valueFormField);
+        }
+    }
+
     // --- inner classes ---
 
     /**
@@ -124,7 +129,9 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable Object value) {
-            Assert.notNull(value, ReflectUtils.parameterError(method, index, "@Url parameter is null."));
+            if (null == value) {
+                throw ReflectUtils.parameterError(method, index, "@Url parameter is null.");
+            }
             builder.setAbsoluteUrl(value.toString());
         }
     }
@@ -173,7 +180,9 @@ public abstract class ParameterHandler<T> {
             if (null != value) {
                 pathValue = converter.convert(value);
             }
-            Assert.hasText(pathValue, ReflectUtils.parameterError(method, index, "Path parameter \"" + name + "\" value must not be null."));
+            if (!StringUtils.hasText(pathValue)) {
+                throw ReflectUtils.parameterError(method, index, "Path parameter \"" + name + "\" value must not be null.");
+            }
             builder.addPathParam(name, pathValue, encoded);
         }
     }
@@ -212,17 +221,12 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable T value) throws Exception {
-            Assert.notNull(value, "Query parameter value must not be null.");
+            if (null == value) {
+                throw new IllegalArgumentException("Query parameter value must not be null.");
+            }
             boolean isPrimitiveOrString = ReflectUtils.isPrimitiveOrString(value.getClass());
             // 如果是基础类型或者String类型，则需要把 name 传入 converter.convert 方法，否则就省去 name 传入
-            Opt.ofNullable(converter.convert(isPrimitiveOrString ? name : "", value, encoded, defaultValue))
-                .ifValid(fieldList ->
-                    fieldList.forEach(field -> {
-                        if (field instanceof FormField.ValueFormField valueFormField) {
-                            builder.addQueryParam(field.getName(), valueFormField);
-                        }
-                    })
-                );
+            converter.convert(isPrimitiveOrString ? name : "", value, encoded, defaultValue, field -> addQueryParam(builder, field));
         }
     }
 
@@ -261,24 +265,19 @@ public abstract class ParameterHandler<T> {
         @Override
         public void apply(RequestBuilder builder, @Nullable Map<String, T> value) throws Exception {
             if (value == null) {
-                value = new HashMap<>();
+                return;
             }
             for (Map.Entry<String, T> et : value.entrySet()) {
                 String etKey = et.getKey();
-                Assert.notNull(etKey, ReflectUtils.parameterError(method, index, "Query map contained null key."));
+                if (null == etKey) {
+                    throw ReflectUtils.parameterError(method, index, "Query map contained null key.");
+                }
                 T etValue = et.getValue();
                 if (null == etValue) {
                     // Skip null values.
                     continue;
                 }
-                Opt.ofNullable(converter.convert(etKey, etValue, encoded, null))
-                    .ifValid(fieldList ->
-                        fieldList.forEach(field -> {
-                            if (field instanceof FormField.ValueFormField valueFormField) {
-                                builder.addQueryParam(field.getName(), valueFormField);
-                            }
-                        })
-                    );
+                converter.convert(etKey, etValue, encoded, null, field -> addQueryParam(builder, field));
             }
         }
     }
@@ -317,15 +316,12 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable T value) throws Exception {
-            Assert.notNull(value, "Field parameter value must not be null.");
+            if (null == value) {
+                throw new IllegalArgumentException("Field parameter value must not be null.");
+            }
             boolean isPrimitiveOrString = ReflectUtils.isPrimitiveOrString(value.getClass());
             // 如果是基础类型或者String类型，则需要把 name 传入 converter.convert 方法，否则就省去 name 传入
-            Opt.ofNullable(converter.convert(isPrimitiveOrString ? name : "", value, encoded, defaultValue))
-                .ifValid(fieldList ->
-                    fieldList.forEach(field ->
-                        builder.addFiled(field.getName(), field)
-                    )
-                );
+            converter.convert(isPrimitiveOrString ? name : "", value, encoded, defaultValue, field -> builder.addFiled(field.getName(), field));
         }
     }
 
@@ -364,23 +360,20 @@ public abstract class ParameterHandler<T> {
         @Override
         public void apply(RequestBuilder builder, @Nullable Map<String, T> value) throws Exception {
             if (value == null) {
-                value = new HashMap<>();
+                return;
             }
 
             for (Map.Entry<String, T> et : value.entrySet()) {
                 String etKey = et.getKey();
-                Assert.notNull(etKey, ReflectUtils.parameterError(method, index, "Field map contained null key."));
+                if (null == etKey) {
+                    throw ReflectUtils.parameterError(method, index, "Field map contained null key.");
+                }
                 T etValue = et.getValue();
                 if (null == etValue) {
                     // Skip null values.
                     continue;
                 }
-                Opt.ofNullable(converter.convert(etKey, etValue, encoded, null))
-                    .ifValid(fieldList ->
-                        fieldList.forEach(field ->
-                            builder.addFiled(field.getName(), field)
-                        )
-                    );
+                converter.convert(etKey, etValue, encoded, null, field -> builder.addFiled(field.getName(), field));
             }
         }
     }
@@ -413,7 +406,9 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable T value) throws Exception {
-            Assert.notNull(value, "Field parameter value must not be null.");
+            if (null == value) {
+                throw new IllegalArgumentException("Field parameter value must not be null.");
+            }
             Class<?> clazz = value.getClass();
             // 支持 File, byte[], InputStream 类型的字段
             if (clazz == File.class) {
@@ -464,7 +459,7 @@ public abstract class ParameterHandler<T> {
         @Override
         public void apply(RequestBuilder builder, @Nullable T value) throws Exception {
             String headerValue = null == value ? null : converter.convert(value);
-            builder.addHeader(name, Opt.ofNullable(headerValue).orElse(""));
+            builder.addHeader(name, StringUtils.isNotBlank(headerValue) ? headerValue : "");
         }
     }
 
@@ -500,12 +495,14 @@ public abstract class ParameterHandler<T> {
         @Override
         public void apply(RequestBuilder builder, @Nullable Map<String, T> value) throws Exception {
             if (value == null) {
-                value = new HashMap<>();
+                return;
             }
 
             for (Map.Entry<String, T> et : value.entrySet()) {
                 String headerName = et.getKey();
-                Assert.hasText(headerName, ReflectUtils.parameterError(method, index, "Header map contained empty key."));
+                if (!StringUtils.hasText(headerName)) {
+                    throw ReflectUtils.parameterError(method, index, "Header map contained empty key.");
+                }
                 T headerValue = et.getValue();
                 if (null == headerValue) {
                     // Skip null values.
@@ -543,7 +540,9 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable okhttp3.Headers headers) {
-            Assert.notNull(headers, ReflectUtils.parameterError(method, index, "Headers parameter must not be null."));
+            if (null == headers) {
+                throw ReflectUtils.parameterError(method, index, "Headers parameter must not be null.");
+            }
             builder.addHeaders(headers);
         }
     }
@@ -579,7 +578,9 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable T value) throws IOException {
-            Assert.notNull(value, ReflectUtils.parameterError(method, index, "Body parameter value must not be null."));
+            if (null == value) {
+                throw ReflectUtils.parameterError(method, index, "Body parameter value must not be null.");
+            }
             RequestBody body = value instanceof RequestBody requestBody ? requestBody : converter.convert(value);
             builder.body(body);
         }
@@ -645,10 +646,12 @@ public abstract class ParameterHandler<T> {
          */
         @Override
         public void apply(RequestBuilder builder, @Nullable T value) throws Exception {
-            Assert.notNull(value, ReflectUtils.parameterError(method, index, "Binary parameter value must not be null."));
+            if (null == value) {
+                throw ReflectUtils.parameterError(method, index, "Binary parameter value must not be null.");
+            }
             switch (value) {
-                case File file -> builder.body(RequestBody.create(file, MediaType.parse("application/octet-stream")));
-                case byte[] bytes -> builder.body(RequestBody.create(bytes, MediaType.parse("application/octet-stream")));
+                case File file -> builder.body(RequestBody.create(file, FlareConst.MediaTypes.APPLICATION_OCTET_STREAM));
+                case byte[] bytes -> builder.body(RequestBody.create(bytes, FlareConst.MediaTypes.APPLICATION_OCTET_STREAM));
                 case InputStream inputStream -> {
                     RequestBody streamBody = new RequestBody() {
                         /**
@@ -658,7 +661,7 @@ public abstract class ParameterHandler<T> {
                          */
                         @Override
                         public MediaType contentType() {
-                            return MediaType.parse("application/octet-stream");
+                            return FlareConst.MediaTypes.APPLICATION_OCTET_STREAM;
                         }
 
                         /**
@@ -1,5 +1,7 @@
 package com.yhy.http.flare.model;
 
+import okhttp3.MediaType;
+
 /**
  * 一些内置常量
  * <p>
@@ -17,6 +19,16 @@ public interface FlareConst {
         String APPLICATION_FORM_URLENCODED = "application/x-www-form-urlencoded";
 
         String MULTIPART_FORM_DATA = "multipart/form-data";
+
+        String APPLICATION_OCTET_STREAM = "application/octet-stream";
+    }
+
+    interface MediaTypes {
+        MediaType APPLICATION_JSON = MediaType.get(ContentType.APPLICATION_JSON);
+
+        MediaType APPLICATION_JSON_UTF8 = MediaType.get(ContentType.APPLICATION_JSON + "; charset=utf-8");
+
+        MediaType APPLICATION_OCTET_STREAM = MediaType.get(ContentType.APPLICATION_OCTET_STREAM);
     }
 
     interface Timeout {
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -51,4 +52,17 @@ public record Invocation(Method method, List<?> arguments) {
         Objects.requireNonNull(arguments, "arguments can not be null.");
         return new Invocation(method, new ArrayList<>(arguments)); // Defensive copy.
     }
+
+    /**
+     * 创建对象。
+     *
+     * @param method 方法
+     * @param arguments 参数数组
+     * @return 处理结果
+     */
+    public static Invocation of(Method method, Object[] arguments) {
+        Objects.requireNonNull(method, "method can not be null.");
+        Objects.requireNonNull(arguments, "arguments can not be null.");
+        return new Invocation(method, Arrays.asList(arguments.clone())); // Defensive copy.
+    }
 }
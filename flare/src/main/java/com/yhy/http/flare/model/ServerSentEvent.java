@@ -0,0 +1,19 @@
+package com.yhy.http.flare.model;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Server-Sent Events 事件
+ * <p>
+ * Created on 2026-10-17 23:45
+ *
+ * @param <T>   数据类型
+ * @param id    最近一次收到的事件 id，没有时为 null
+ * @param event 事件类型，未指定时为 message
+ * @param data  按返回值泛型解析后的数据
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public record ServerSentEvent<T>(@Nullable String id, String event, @Nullable T data) {
+}
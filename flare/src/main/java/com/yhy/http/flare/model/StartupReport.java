@@ -0,0 +1,58 @@
+package com.yhy.http.flare.model;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 接口启动报告
+ * <p>
+ * 记录 {@code Flare.create} 时每个接口的解析耗时和各方法选用的组件，用于观察冷启动耗时
+ * <p>
+ * Created on 2026-10-17 17:10
+ *
+ * @param api         接口
+ * @param generated   是否使用 flare-processor 生成的实现类代替 Proxy，方法同样在创建时解析
+ * @param compileTime 接口解析总耗时
+ * @param methods     方法报告，顺序与 {@link Class#getDeclaredMethods()} 一致
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public record StartupReport(Class<?> api, boolean generated, Duration compileTime, List<MethodReport> methods) {
+
+    /**
+     * 创建 StartupReport 实例。
+     *
+     * @param api         接口
+     * @param generated   是否使用生成的实现
+     * @param compileTime 解析耗时
+     * @param methods     方法报告
+     */
+    public StartupReport {
+        methods = List.copyOf(methods);
+    }
+
+    /**
+     * 转换为字符串。
+     *
+     * @return 处理结果
+     */
+    @Override
+    public @NotNull String toString() {
+        return String.format("%s: %d methods in %.3f ms%s", api.getName(), methods.size(), compileTime.toNanos() / 1_000_000.0, generated ? " (generated)" : "");
+    }
+
+    /**
+     * 方法报告
+     *
+     * @param method            方法名
+     * @param httpMethod        请求方式
+     * @param compileTime       解析耗时
+     * @param callAdapter       选用的请求发送处理器
+     * @param responseConverter 选用的响应数据转换器
+     */
+    public record MethodReport(String method, String httpMethod, Duration compileTime, String callAdapter, String responseConverter) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.yhy.http.flare.proxy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * flare-processor 生成的接口实现
+ * <p>
+ * 由 flare-processor 为每个接口生成 {@code 接口名$$Flare} 类，类中的 {@code GENERATED} 字段记录方法顺序和创建接口实现的工厂。
+ * 生成类只用于代替 Proxy，不包含请求元数据：{@link com.yhy.http.flare.Flare#create(Class)} 仍在创建时通过反射解析全部方法，启动耗时不变。
+ * <p>
+ * Created on 2026-10-17 15:20
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Slf4j
+public final class GeneratedApi<T> {
+
+    /**
+     * 生成类名后缀
+     */
+    public static final String SUFFIX = "$$Flare";
+
+    /**
+     * 生成类中 GeneratedApi 字段名
+     */
+    public static final String FIELD = "GENERATED";
+
+    private final Class<T> api;
+    private final Function<MethodInvoker[], ? extends T> factory;
+    private final List<Entry> entries;
+
+    private GeneratedApi(Class<T> api, Function<MethodInvoker[], ? extends T> factory, List<Entry> entries) {
+        this.api = api;
+        this.factory = factory;
+        this.entries = entries;
+    }
+
+    /**
+     * 创建生成实现的描述，由生成代码调用
+     *
+     * @param api     接口
+     * @param factory 接口实现工厂，调用器顺序与 entries 一致
+     * @param entries 方法
+     * @param <T>     接口类型
+     * @return 生成实现的描述
+     */
+    public static <T> GeneratedApi<T> of(Class<T> api, Function<MethodInvoker[], ? extends T> factory, Entry... entries) {
+        Objects.requireNonNull(api, "api can not be null.");
+        Objects.requireNonNull(factory, "factory can not be null.");
+        return new GeneratedApi<>(api, factory, List.of(entries));
+    }
+
+    /**
+     * 创建方法记录，由生成代码调用
+     *
+     * @param name           方法名
+     * @param parameterTypes 参数类型
+     * @return 方法记录
+     */
+    public static Entry entry(String name, Class<?>... parameterTypes) {
+        return new Entry(name, List.of(parameterTypes));
+    }
+
+    /**
+     * 查找接口对应的生成实现
+     *
+     * @param api 接口
+     * @param <T> 接口类型
+     * @return 生成实现的描述，未使用 flare-processor 时返回 null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedApi<T> find(Class<T> api) {
+        try {
+            Class<?> generated = Class.forName(api.getName() + SUFFIX, true, api.getClassLoader());
+            if (generated.getField(FIELD).get(null) instanceof GeneratedApi<?> generatedApi && generatedApi.api == api) {
+                return (GeneratedApi<T>) generatedApi;
+            }
+            log.warn("[{}] does not hold a GeneratedApi of [{}], ignored.", generated.getName(), api.getName());
+        } catch (ClassNotFoundException e) {
+            // 没有生成的实现类
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Unable to load the generated implementation of [{}], ignored.", api.getName(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 接口
+     *
+     * @return 接口
+     */
+    public Class<T> api() {
+        return api;
+    }
+
+    /**
+     * 方法记录，顺序与生成类中的调用器下标一致
+     *
+     * @return 方法记录
+     */
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * 创建接口实例
+     *
+     * @param invokerFactory 按方法创建调用器
+     * @return 接口实例
+     */
+    public T newInstance(Function<Method, MethodInvoker> invokerFactory) {
+        MethodInvoker[] invokers = new MethodInvoker[entries.size()];
+        for (int i = 0; i < invokers.length; i++) {
+            invokers[i] = invokerFactory.apply(entries.get(i).method(api));
+        }
+        return factory.apply(invokers);
+    }
+
+    /**
+     * 方法记录
+     *
+     * @param name           方法名
+     * @param parameterTypes 参数类型
+     */
+    public record Entry(String name, List<Class<?>> parameterTypes) {
+
+        /**
+         * 从接口中取出对应的方法
+         *
+         * @param api 接口
+         * @return 方法
+         */
+        public Method method(Class<?> api) {
+            try {
+                return api.getMethod(name, parameterTypes.toArray(new Class<?>[0]));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("The generated implementation of [" + api.getName() + "] is out of date, method " + name + " not found.", e);
+            }
+        }
+    }
+}
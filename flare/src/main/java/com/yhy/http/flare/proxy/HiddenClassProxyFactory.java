@@ -0,0 +1,450 @@
+package com.yhy.http.flare.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 基于 hidden class 的接口实现生成器
+ * <p>
+ * 为每个接口生成一个实现类，每个方法直接取出对应下标的 {@link MethodInvoker} 调用，
+ * 不经过 {@link java.lang.reflect.InvocationHandler}，也不需要在调用时按 {@link Method} 查找处理器。
+ * 参数数组与 Proxy 一样在每次调用时创建，无参方法使用共享的空数组。
+ * <p>
+ * 未在方法上声明的受检异常与 Proxy 一致，包装为 {@link UndeclaredThrowableException}；
+ * equals、hashCode、toString 使用生成类自身（即 Object）的实现。
+ * <p>
+ * Created on 2026-10-17 14:10
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class HiddenClassProxyFactory {
+    private static final int CLASS_VERSION = 65;
+    private static final String OBJECT = "java/lang/Object";
+    private static final String INVOKER = MethodInvoker.class.getName().replace('.', '/');
+    private static final String INVOKERS_FIELD = "invokers";
+    private static final String INVOKERS_DESC = MethodInvoker[].class.descriptorString();
+
+    private HiddenClassProxyFactory() {
+        throw new UnsupportedOperationException("Can not instantiate utils class.");
+    }
+
+    /**
+     * 生成接口实现并创建实例
+     *
+     * @param api            接口
+     * @param invokerFactory 按方法创建调用器，每个方法只调用一次
+     * @param <T>            接口类型
+     * @return 接口实例
+     * @throws IllegalStateException 当前接口无法生成实现，调用方可以退回 {@link java.lang.reflect.Proxy}
+     */
+    public static <T> T create(Class<T> api, Function<Method, MethodInvoker> invokerFactory) {
+        List<Method> methods = abstractMethods(api);
+        MethodInvoker[] invokers = new MethodInvoker[methods.size()];
+        for (int i = 0; i < invokers.length; i++) {
+            invokers[i] = declaredOnly(methods.get(i), invokerFactory.apply(methods.get(i)));
+        }
+        try {
+            byte[] bytes = generate(api, methods);
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(api, MethodHandles.lookup()).defineHiddenClass(bytes, true);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, MethodInvoker[].class));
+            return api.cast(constructor.invoke(invokers));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to generate implementation for " + api.getName(), e);
+        }
+    }
+
+    /**
+     * 未在方法上声明的受检异常包装为 UndeclaredThrowableException，声明了 Exception 或 Throwable 的方法不需要包装
+     *
+     * @param method  方法
+     * @param invoker 调用器
+     * @return 调用器
+     */
+    private static MethodInvoker declaredOnly(Method method, MethodInvoker invoker) {
+        Class<?>[] declared = method.getExceptionTypes();
+        for (Class<?> type : declared) {
+            if (type == Exception.class || type == Throwable.class) {
+                return invoker;
+            }
+        }
+        return args -> {
+            try {
+                return invoker.invoke(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                for (Class<?> type : declared) {
+                    if (type.isInstance(e)) {
+                        throw e;
+                    }
+                }
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    /**
+     * 需要实现的方法，与 Proxy 一致，包括父接口的方法和 default 方法
+     *
+     * @param api 接口
+     * @return 方法列表
+     */
+    private static List<Method> abstractMethods(Class<?> api) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Method method : api.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            String key = method.getName() + MethodType.methodType(void.class, method.getParameterTypes()).toMethodDescriptorString();
+            Method exists = methods.putIfAbsent(key, method);
+            if (null != exists && exists.getReturnType() != method.getReturnType()) {
+                throw new IllegalStateException("Covariant return types are not supported: " + method);
+            }
+            checkAccessible(api, method.getReturnType());
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private static void checkAccessible(Class<?> api, Class<?> type) {
+        Class<?> component = type;
+        while (component.isArray()) {
+            component = component.getComponentType();
+        }
+        if (component.isPrimitive() || Modifier.isPublic(component.getModifiers()) || component.getPackageName().equals(api.getPackageName())) {
+            return;
+        }
+        throw new IllegalStateException("Return type " + type.getName() + " is not accessible from " + api.getName());
+    }
+
+    private static byte[] generate(Class<?> api, List<Method> methods) throws IOException {
+        ConstantPool cp = new ConstantPool();
+        String className = api.getName().replace('.', '/') + "$FlareImpl";
+        int thisClass = cp.classRef(className);
+        int superClass = cp.classRef(OBJECT);
+        int apiClass = cp.classRef(api.getName().replace('.', '/'));
+        int invokersField = cp.fieldRef(className, INVOKERS_FIELD, INVOKERS_DESC);
+        int code = cp.utf8("Code");
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeShort(Modifier.PUBLIC | Modifier.FINAL | 0x0020);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(apiClass);
+
+        // private final MethodInvoker[] invokers;
+        out.writeShort(1);
+        out.writeShort(Modifier.PRIVATE | Modifier.FINAL);
+        out.writeShort(cp.utf8(INVOKERS_FIELD));
+        out.writeShort(cp.utf8(INVOKERS_DESC));
+        out.writeShort(0);
+
+        out.writeShort(methods.size() + 1);
+        writeConstructor(out, cp, code, invokersField);
+        for (int i = 0; i < methods.size(); i++) {
+            writeMethod(out, cp, code, invokersField, i, methods.get(i));
+        }
+        out.writeShort(0);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.size() + 1024);
+        DataOutputStream file = new DataOutputStream(bytes);
+        file.writeInt(0xCAFEBABE);
+        file.writeShort(0);
+        file.writeShort(CLASS_VERSION);
+        cp.writeTo(file);
+        body.writeTo(file);
+        return bytes.toByteArray();
+    }
+
+    private static void writeConstructor(DataOutputStream out, ConstantPool cp, int code, int invokersField) throws IOException {
+        Bytecode bc = new Bytecode();
+        bc.op(Opcodes.ALOAD_0);
+        bc.op(Opcodes.INVOKESPECIAL).u2(cp.methodRef(OBJECT, "<init>", "()V"));
+        bc.op(Opcodes.ALOAD_0);
+        bc.op(Opcodes.ALOAD_1);
+        bc.op(Opcodes.PUTFIELD).u2(invokersField);
+        bc.op(Opcodes.RETURN);
+
+        out.writeShort(Modifier.PUBLIC);
+        out.writeShort(cp.utf8("<init>"));
+        out.writeShort(cp.utf8("(" + INVOKERS_DESC + ")V"));
+        writeCode(out, code, 2, 2, bc);
+    }
+
+    private static void writeMethod(DataOutputStream out, ConstantPool cp, int code, int invokersField, int index, Method method) throws IOException {
+        Class<?>[] params = method.getParameterTypes();
+        Bytecode bc = new Bytecode();
+        bc.op(Opcodes.ALOAD_0);
+        bc.op(Opcodes.GETFIELD).u2(invokersField);
+        pushInt(bc, cp, index);
+        bc.op(Opcodes.AALOAD);
+
+        int slot = 1;
+        if (params.length == 0) {
+            bc.op(Opcodes.GETSTATIC).u2(cp.fieldRef(INVOKER, "EMPTY_ARGS", "[Ljava/lang/Object;"));
+        } else {
+            pushInt(bc, cp, params.length);
+            bc.op(Opcodes.ANEWARRAY).u2(cp.classRef(OBJECT));
+            for (int i = 0; i < params.length; i++) {
+                bc.op(Opcodes.DUP);
+                pushInt(bc, cp, i);
+                slot = loadAndBox(bc, cp, params[i], slot);
+                bc.op(Opcodes.AASTORE);
+            }
+        }
+        bc.op(Opcodes.INVOKEINTERFACE).u2(cp.interfaceMethodRef(INVOKER, "invoke", "([Ljava/lang/Object;)Ljava/lang/Object;")).u1(2).u1(0);
+        unboxAndReturn(bc, cp, method.getReturnType());
+
+        out.writeShort(Modifier.PUBLIC);
+        out.writeShort(cp.utf8(method.getName()));
+        out.writeShort(cp.utf8(MethodType.methodType(method.getReturnType(), params).toMethodDescriptorString()));
+        // 最深的情况：invoker、数组、数组、下标、long/double 参数
+        writeCode(out, code, 6, slot, bc);
+    }
+
+    private static void writeCode(DataOutputStream out, int code, int maxStack, int maxLocals, Bytecode bc) throws IOException {
+        out.writeShort(1);
+        out.writeShort(code);
+        out.writeInt(12 + bc.size());
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(bc.size());
+        bc.writeTo(out);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private static int loadAndBox(Bytecode bc, ConstantPool cp, Class<?> type, int slot) {
+        if (!type.isPrimitive()) {
+            bc.op(Opcodes.ALOAD).u1(slot);
+            return slot + 1;
+        }
+        Primitive primitive = Primitive.of(type);
+        bc.op(primitive.load).u1(slot);
+        bc.op(Opcodes.INVOKESTATIC).u2(cp.methodRef(primitive.wrapper, "valueOf", "(" + type.descriptorString() + ")L" + primitive.wrapper + ";"));
+        return slot + (type == long.class || type == double.class ? 2 : 1);
+    }
+
+    private static void unboxAndReturn(Bytecode bc, ConstantPool cp, Class<?> type) {
+        if (type == void.class) {
+            bc.op(Opcodes.POP);
+            bc.op(Opcodes.RETURN);
+            return;
+        }
+        if (type.isPrimitive()) {
+            Primitive primitive = Primitive.of(type);
+            bc.op(Opcodes.CHECKCAST).u2(cp.classRef(primitive.wrapper));
+            bc.op(Opcodes.INVOKEVIRTUAL).u2(cp.methodRef(primitive.wrapper, type.getName() + "Value", "()" + type.descriptorString()));
+            bc.op(primitive.ret);
+            return;
+        }
+        if (type != Object.class) {
+            bc.op(Opcodes.CHECKCAST).u2(cp.classRef(type.isArray() ? type.descriptorString() : type.getName().replace('.', '/')));
+        }
+        bc.op(Opcodes.ARETURN);
+    }
+
+    private static void pushInt(Bytecode bc, ConstantPool cp, int value) {
+        if (value <= 5) {
+            bc.op(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            bc.op(Opcodes.BIPUSH).u1(value);
+        } else if (value <= Short.MAX_VALUE) {
+            bc.op(Opcodes.SIPUSH).u2(value);
+        } else {
+            bc.op(Opcodes.LDC_W).u2(cp.integer(value));
+        }
+    }
+
+    private enum Primitive {
+        BOOLEAN(boolean.class, "java/lang/Boolean", Opcodes.ILOAD, Opcodes.IRETURN),
+        BYTE(byte.class, "java/lang/Byte", Opcodes.ILOAD, Opcodes.IRETURN),
+        CHAR(char.class, "java/lang/Character", Opcodes.ILOAD, Opcodes.IRETURN),
+        SHORT(short.class, "java/lang/Short", Opcodes.ILOAD, Opcodes.IRETURN),
+        INT(int.class, "java/lang/Integer", Opcodes.ILOAD, Opcodes.IRETURN),
+        LONG(long.class, "java/lang/Long", Opcodes.LLOAD, Opcodes.LRETURN),
+        FLOAT(float.class, "java/lang/Float", Opcodes.FLOAD, Opcodes.FRETURN),
+        DOUBLE(double.class, "java/lang/Double", Opcodes.DLOAD, Opcodes.DRETURN);
+
+        private final Class<?> type;
+        private final String wrapper;
+        private final int load;
+        private final int ret;
+
+        Primitive(Class<?> type, String wrapper, int load, int ret) {
+            this.type = type;
+            this.wrapper = wrapper;
+            this.load = load;
+            this.ret = ret;
+        }
+
+        static Primitive of(Class<?> type) {
+            for (Primitive primitive : values()) {
+                if (primitive.type == type) {
+                    return primitive;
+                }
+            }
+            throw new IllegalArgumentException("Not a primitive type: " + type);
+        }
+    }
+
+    private static final class Opcodes {
+        static final int ICONST_0 = 0x03;
+        static final int BIPUSH = 0x10;
+        static final int SIPUSH = 0x11;
+        static final int LDC_W = 0x13;
+        static final int ILOAD = 0x15;
+        static final int LLOAD = 0x16;
+        static final int FLOAD = 0x17;
+        static final int DLOAD = 0x18;
+        static final int ALOAD = 0x19;
+        static final int ALOAD_0 = 0x2a;
+        static final int ALOAD_1 = 0x2b;
+        static final int AALOAD = 0x32;
+        static final int AASTORE = 0x53;
+        static final int POP = 0x57;
+        static final int DUP = 0x59;
+        static final int IRETURN = 0xac;
+        static final int LRETURN = 0xad;
+        static final int FRETURN = 0xae;
+        static final int DRETURN = 0xaf;
+        static final int ARETURN = 0xb0;
+        static final int RETURN = 0xb1;
+        static final int GETSTATIC = 0xb2;
+        static final int GETFIELD = 0xb4;
+        static final int PUTFIELD = 0xb5;
+        static final int INVOKEVIRTUAL = 0xb6;
+        static final int INVOKESPECIAL = 0xb7;
+        static final int INVOKESTATIC = 0xb8;
+        static final int INVOKEINTERFACE = 0xb9;
+        static final int ANEWARRAY = 0xbd;
+        static final int CHECKCAST = 0xc0;
+    }
+
+    private static final class Bytecode {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+
+        Bytecode op(int opcode) {
+            out.write(opcode);
+            return this;
+        }
+
+        Bytecode u1(int value) {
+            out.write(value);
+            return this;
+        }
+
+        Bytecode u2(int value) {
+            out.write(value >>> 8);
+            out.write(value);
+            return this;
+        }
+
+        int size() {
+            return out.size();
+        }
+
+        void writeTo(DataOutputStream dos) throws IOException {
+            out.writeTo(dos);
+        }
+    }
+
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return index("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int integer(int value) {
+            return index("I" + value, () -> {
+                out.writeByte(3);
+                out.writeInt(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return index("C" + internalName, () -> {
+                out.writeByte(7);
+                out.writeShort(name);
+            });
+        }
+
+        int fieldRef(String owner, String name, String desc) {
+            return memberRef(9, owner, name, desc);
+        }
+
+        int methodRef(String owner, String name, String desc) {
+            return memberRef(10, owner, name, desc);
+        }
+
+        int interfaceMethodRef(String owner, String name, String desc) {
+            return memberRef(11, owner, name, desc);
+        }
+
+        private int memberRef(int tag, String owner, String name, String desc) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descIndex = utf8(desc);
+            int nameAndType = index("N" + name + ":" + desc, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descIndex);
+            });
+            return index("M" + tag + owner + "." + name + ":" + desc, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int index(String key, Entry entry) {
+            Integer index = indexes.get(key);
+            if (null != index) {
+                return index;
+            }
+            try {
+                entry.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            indexes.put(key, count);
+            return count++;
+        }
+
+        void writeTo(DataOutputStream dos) throws IOException {
+            dos.writeShort(count);
+            bytes.writeTo(dos);
+        }
+
+        @FunctionalInterface
+        private interface Entry {
+            void write() throws IOException;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.yhy.http.flare.proxy;
+
+/**
+ * 接口方法调用器
+ * <p>
+ * 生成的接口实现类直接调用该接口，参数按声明顺序装箱放入数组，无参方法传入共享的 {@link #EMPTY_ARGS}。
+ * <p>
+ * Created on 2026-10-17 14:05
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * 空参数
+     */
+    Object[] EMPTY_ARGS = new Object[0];
+
+    /**
+     * 调用方法
+     *
+     * @param args 参数
+     * @return 方法返回值
+     * @throws Throwable 异常
+     */
+    Object invoke(Object[] args) throws Throwable;
+}
@@ -0,0 +1,104 @@
+package com.yhy.http.flare.such.adapter;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.EventStream;
+import com.yhy.http.flare.call.CallAdapter;
+import com.yhy.http.flare.call.Caller;
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.http.request.RequestFactory;
+import com.yhy.http.flare.model.ServerSentEvent;
+import com.yhy.http.flare.such.sse.EventStreamPublisher;
+import com.yhy.http.flare.utils.Assert;
+import com.yhy.http.flare.utils.ReflectUtils;
+import okhttp3.ResponseBody;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+
+/**
+ * Server-Sent Events 的 CallAdapter
+ * <p>
+ * 返回值为 {@code Flow.Publisher<ServerSentEvent<T>>} 时使用，调用接口方法不发送请求，订阅时才建立连接，每次连接都重新创建请求，
+ * 每个事件的 data 按 T 使用配置的 BodyConverter 解析，方法或接口上的 {@link com.yhy.http.flare.annotation.Codec} 同样生效。
+ * <p>
+ * Created on 2026-10-17 23:45
+ *
+ * @param <T> 事件数据类型
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class EventStreamCallAdapter<T> implements CallAdapter<ResponseBody, Flow.Publisher<ServerSentEvent<T>>> {
+    private final RequestFactory requestFactory;
+    private final BodyConverter<ResponseBody, T> dataConverter;
+    private final long retry;
+    private final int maxReconnects;
+
+    private EventStreamCallAdapter(RequestFactory requestFactory, BodyConverter<ResponseBody, T> dataConverter, long retry, int maxReconnects) {
+        this.requestFactory = requestFactory;
+        this.dataConverter = dataConverter;
+        this.retry = retry;
+        this.maxReconnects = maxReconnects;
+    }
+
+    /**
+     * 返回值是否为事件流
+     *
+     * @param returnType 返回值类型
+     * @return 是否为事件流
+     */
+    public static boolean isEventStream(Type returnType) {
+        return returnType instanceof ParameterizedType publisher
+            && ReflectUtils.getRawType(publisher) == Flow.Publisher.class
+            && ReflectUtils.getRawType(ReflectUtils.getParameterUpperBound(0, publisher)) == ServerSentEvent.class;
+    }
+
+    /**
+     * 创建 EventStreamCallAdapter 实例。
+     *
+     * @param method         接口方法
+     * @param requestFactory 方法的请求创建工厂，每次连接时重新创建请求
+     * @param flare          Flare
+     * @param <T>            事件数据类型
+     * @return EventStreamCallAdapter 实例
+     */
+    public static <T> EventStreamCallAdapter<T> create(Method method, RequestFactory requestFactory, Flare flare) {
+        Type returnType = method.getGenericReturnType();
+        Annotation[] annotations = method.getAnnotations();
+        Type eventType = ReflectUtils.getParameterUpperBound(0, (ParameterizedType) returnType);
+        Assert.isTrue(eventType instanceof ParameterizedType, "ServerSentEvent must be parameterized as ServerSentEvent<T>, but was {}.", eventType.getTypeName());
+        Type dataType = ReflectUtils.getParameterUpperBound(0, (ParameterizedType) eventType);
+
+        EventStream stream = (EventStream) Arrays.stream(annotations).filter(a -> a instanceof EventStream).findFirst().orElse(null);
+        long retry = null != stream ? stream.retry() : 3000;
+        int maxReconnects = null != stream ? stream.maxReconnects() : -1;
+        Assert.isTrue(retry >= 0, "@EventStream retry must not be negative.");
+        return new EventStreamCallAdapter<>(requestFactory, flare.responseConverter(method, dataType, annotations), retry, maxReconnects);
+    }
+
+    /**
+     * 响应类型，事件流由适配器自行读取
+     *
+     * @return 响应类型
+     */
+    @Override
+    public Type responseType() {
+        return ResponseBody.class;
+    }
+
+    /**
+     * 适配调用。
+     *
+     * @param caller 值
+     * @param args   对象
+     * @return 事件发布者
+     */
+    @Override
+    public Flow.Publisher<ServerSentEvent<T>> adapt(Caller<ResponseBody> caller, Object[] args) {
+        return new EventStreamPublisher<>(requestFactory, args, dataConverter, retry, maxReconnects);
+    }
+}
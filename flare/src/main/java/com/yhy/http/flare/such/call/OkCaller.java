@@ -4,14 +4,13 @@ import com.yhy.http.flare.Flare;
 import com.yhy.http.flare.call.Callback;
 import com.yhy.http.flare.call.Caller;
 import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.exception.EnvelopeException;
+import com.yhy.http.flare.exception.HttpException;
 import com.yhy.http.flare.http.request.RequestFactory;
 import com.yhy.http.flare.model.InternalResponse;
-import com.yhy.http.flare.such.ssl.VoidSSLX509TrustManager;
 import com.yhy.http.flare.utils.BufferUtils;
-import com.yhy.http.flare.utils.Opt;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.ResponseBody;
 import okio.Buffer;
@@ -22,7 +21,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -259,48 +257,15 @@ public class OkCaller<T> implements Caller<T> {
     }
 
     private okhttp3.Call createRawCall() {
-        OkHttpClient.Builder builder = newBuilder();
         try {
-            Request request = requestFactory.create(builder, args);
-            return builder.build().newCall(request);
+            Request request = requestFactory.create(args);
+            return requestFactory.client().newCall(request);
         } catch (Exception e) {
             log.error("", e);
             throw new RuntimeException(e);
         }
     }
 
-    private OkHttpClient.Builder newBuilder() {
-        // Create a new OkHttpClient.Builder with the Flare's configuration.
-        OkHttpClient ok = flare.clientBuilder().build();
-        // Copy the OkHttpClient's configuration to the builder.
-        return new OkHttpClient.Builder()
-            .taskRunner$okhttp(ok.getTaskRunner$okhttp())
-            .dispatcher(ok.dispatcher())
-            .connectionPool(ok.connectionPool())
-            .eventListenerFactory(ok.eventListenerFactory())
-            .retryOnConnectionFailure(ok.retryOnConnectionFailure())
-            .authenticator(ok.authenticator())
-            .followRedirects(ok.followRedirects())
-            .followSslRedirects(ok.followSslRedirects())
-            .cookieJar(ok.cookieJar())
-            .cache(ok.cache())
-            .dns(ok.dns())
-            .proxy(ok.proxy())
-            .proxySelector(ok.proxySelector())
-            .proxyAuthenticator(ok.proxyAuthenticator())
-            .socketFactory(ok.socketFactory())
-            .connectionSpecs(ok.connectionSpecs())
-            .protocols(ok.protocols())
-            .sslSocketFactory(ok.sslSocketFactory(), Opt.ofNullable(ok.x509TrustManager()).orElse(flare.sslTrustManager().orElse(new VoidSSLX509TrustManager())))
-            .hostnameVerifier(ok.hostnameVerifier())
-            .certificatePinner(ok.certificatePinner())
-            .callTimeout(Duration.ofMillis(ok.callTimeoutMillis()))
-            .connectTimeout(Duration.ofMillis(ok.connectTimeoutMillis()))
-            .readTimeout(Duration.ofMillis(ok.readTimeoutMillis()))
-            .writeTimeout(Duration.ofMillis(ok.writeTimeoutMillis()))
-            .pingInterval(Duration.ofMillis(ok.pingIntervalMillis()));
-    }
-
     private InternalResponse<T> parseResponse(okhttp3.Response rawResponse) throws IOException {
         ResponseBody rawBody = rawResponse.body();
 
@@ -330,6 +295,9 @@ public class OkCaller<T> implements Caller<T> {
         try {
             T body = responseConverter.convert(catchingBody);
             return InternalResponse.success(rawResponse, body, flare.ignoreHttpStatus());
+        } catch (EnvelopeException e) {
+            // 包装对象的状态校验失败，带上原始响应
+            throw new HttpException(InternalResponse.success(rawResponse, null, true), e);
         } catch (RuntimeException e) {
             // If the underlying source threw an exception, propagate that rather than indicating it was
             // a runtime exception.
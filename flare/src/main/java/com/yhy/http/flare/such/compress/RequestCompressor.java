@@ -0,0 +1,130 @@
+package com.yhy.http.flare.such.compress;
+
+import com.yhy.http.flare.annotation.Compress;
+import com.yhy.http.flare.utils.Assert;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.DeflaterSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+/**
+ * 请求体压缩器
+ * <p>
+ * 在解析方法时创建，发送请求时包装请求体，压缩在写入连接时进行。
+ * <p>
+ * Created on 2026-10-17 21:05
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class RequestCompressor {
+    private final Compress.Encoding encoding;
+    private final long minSize;
+    private final int level;
+
+    private RequestCompressor(Compress.Encoding encoding, long minSize, int level) {
+        this.encoding = encoding;
+        this.minSize = minSize;
+        this.level = level;
+    }
+
+    /**
+     * 创建请求体压缩器
+     *
+     * @param encoding 压缩算法
+     * @param minSize  最小压缩长度，字节
+     * @param level    压缩级别
+     * @return 请求体压缩器，不压缩时为 null
+     */
+    public static @Nullable RequestCompressor of(Compress.Encoding encoding, long minSize, int level) {
+        Assert.notNull(encoding, "encoding can not be null.");
+        Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION), "level must be in [0, 9].");
+        if (encoding == Compress.Encoding.IDENTITY) {
+            return null;
+        }
+        return new RequestCompressor(encoding, Math.max(0, minSize), level);
+    }
+
+    /**
+     * Content-Encoding 的值
+     *
+     * @return Content-Encoding 的值
+     */
+    public String contentEncoding() {
+        return encoding.value();
+    }
+
+    /**
+     * 压缩请求体
+     *
+     * @param body 请求体
+     * @return 压缩后的请求体，不需要压缩时返回原请求体
+     */
+    public RequestBody compress(RequestBody body) {
+        long length;
+        try {
+            length = body.contentLength();
+        } catch (IOException e) {
+            length = -1;
+        }
+        // 长度未知的请求体一般是流式发送的大数据，直接压缩
+        if (length == 0 || (length > 0 && length < minSize)) {
+            return body;
+        }
+        return new CompressedRequestBody(body, encoding, level);
+    }
+
+    /**
+     * 压缩后的请求体，长度未知
+     */
+    private static final class CompressedRequestBody extends RequestBody {
+        private final RequestBody delegate;
+        private final Compress.Encoding encoding;
+        private final int level;
+
+        private CompressedRequestBody(RequestBody delegate, Compress.Encoding encoding, int level) {
+            this.delegate = delegate;
+            this.encoding = encoding;
+            this.level = level;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return delegate.isOneShot();
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            BufferedSink compressed;
+            if (encoding == Compress.Encoding.GZIP) {
+                GzipSink gzip = new GzipSink(sink);
+                gzip.deflater().setLevel(level);
+                compressed = Okio.buffer(gzip);
+            } else {
+                compressed = Okio.buffer(new DeflaterSink(sink, new Deflater(level)));
+            }
+            // 关闭时写入压缩尾部并释放 Deflater
+            try (compressed) {
+                delegate.writeTo(compressed);
+            }
+        }
+    }
+}
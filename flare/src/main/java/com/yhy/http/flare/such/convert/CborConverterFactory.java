@@ -0,0 +1,50 @@
+package com.yhy.http.flare.such.convert;
+
+import okhttp3.MediaType;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 基于 Jackson CBOR 实现的 BodyConverter
+ * <p>
+ * CBOR（RFC 8949）是通用的二进制数据格式，数据模型兼容 JSON，常用于跨语言的服务之间。
+ * tools.jackson.dataformat:jackson-dataformat-cbor 为可选依赖，需要由使用方引入，缺少时该类无法加载，Flare 的其他部分不受影响。
+ * <p>
+ * Created on 2026-10-17 20:20
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class CborConverterFactory extends JacksonConverterFactory {
+
+    /**
+     * CBOR 媒体类型
+     */
+    public static final MediaType MEDIA_TYPE = MediaType.get("application/cbor");
+
+    /**
+     * 创建 CborConverterFactory 实例。
+     */
+    public CborConverterFactory() {
+        this(CBORMapper.builder().build());
+    }
+
+    /**
+     * 创建 CborConverterFactory 实例。
+     *
+     * @param mapper 映射
+     */
+    public CborConverterFactory(CBORMapper mapper) {
+        this(mapper, STREAMING_DISABLED);
+    }
+
+    /**
+     * 创建 CborConverterFactory 实例。
+     *
+     * @param mapper             映射
+     * @param streamingThreshold 流式请求体阈值，字节，0 表示总是流式发送，{@link #STREAMING_DISABLED} 表示不使用流式请求体
+     */
+    public CborConverterFactory(CBORMapper mapper, long streamingThreshold) {
+        super(mapper, MEDIA_TYPE, streamingThreshold);
+    }
+}
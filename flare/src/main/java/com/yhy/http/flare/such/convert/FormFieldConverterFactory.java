@@ -4,12 +4,16 @@ import com.yhy.http.flare.Flare;
 import com.yhy.http.flare.annotation.param.Multipart;
 import com.yhy.http.flare.convert.FormFieldConverter;
 import com.yhy.http.flare.model.FormField;
-import com.yhy.http.flare.utils.Opt;
 import com.yhy.http.flare.utils.ReflectUtils;
+import com.yhy.http.flare.utils.StringUtils;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
@@ -17,10 +21,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 表单字段转换器工厂
  * <p>
+ * 每个类只反射一次，字段读取句柄、拼接后的名称和 Multipart 信息缓存在 ClassValue 中
+ * <p>
  * Created on 2025-09-15 15:29
  *
  * @author 颜洪毅
@@ -48,6 +55,16 @@ public class FormFieldConverterFactory implements FormFieldConverter.Factory {
          */
         private static final String DEFAULT_VALUE = null;
 
+        /**
+         * 每个类的展开方式只解析一次
+         */
+        private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+            @Override
+            protected Plan computeValue(@NotNull Class<?> type) {
+                return Plan.of(type);
+            }
+        };
+
         /**
          * 转换数据。
          *
@@ -60,96 +77,178 @@ public class FormFieldConverterFactory implements FormFieldConverter.Factory {
         @Override
         public List<FormField<?>> convert(String name, T value, boolean encoded, String defaultValue) {
             List<FormField<?>> formFields = new ArrayList<>();
-            serialize(name == null ? "" : name, value, formFields, encoded, defaultValue);
+            serialize(name == null ? "" : name, value, formFields::add, encoded, defaultValue);
             return formFields;
         }
 
-        // 递归把对象展开成 Map
-        private static void serialize(String name, Object obj, List<FormField<?>> fieldList, boolean encoded, String defaultValue) {
-            if (obj == null) {
-                return;
-            }
-
-            Class<?> clazz = obj.getClass();
+        /**
+         * 转换数据，字段直接交给 sink。
+         *
+         * @param name 字符串
+         * @param value 值
+         * @param encoded 值
+         * @param defaultValue 字符串
+         * @param sink 字段处理
+         */
+        @Override
+        public void convert(String name, T value, boolean encoded, String defaultValue, Consumer<FormField<?>> sink) {
+            serialize(name == null ? "" : name, value, sink, encoded, defaultValue);
+        }
 
-            // 基本类型或 String，直接放进去
-            if (ReflectUtils.isPrimitiveOrString(clazz)) {
-                String value = Opt.ofNullable(obj).map(Object::toString).orElse(defaultValue);
-                fieldList.add(new FormField.ValueFormField(name, value, encoded, defaultValue));
+        // 递归把对象展开成表单字段
+        private static void serialize(String name, Object obj, Consumer<FormField<?>> sink, boolean encoded, String defaultValue) {
+            if (obj == null) {
                 return;
             }
 
-            // 如果是数组，按下标展开
-            if (clazz.isArray()) {
-                int i = 0;
-                for (Object item : (Object[]) obj) {
-                    serialize(name + "[" + i + "]", item, fieldList, encoded, DEFAULT_VALUE);
-                    i++;
+            Plan plan = PLANS.get(obj.getClass());
+            switch (plan.kind) {
+                // 基本类型或 String，直接放进去
+                case VALUE -> {
+                    String value = obj.toString();
+                    sink.accept(new FormField.ValueFormField(name, StringUtils.isNotBlank(value) ? value : defaultValue, encoded, defaultValue));
                 }
-                return;
-            }
-
-            // 如果是集合，按下标展开
-            if (obj instanceof Collection) {
-                int i = 0;
-                for (Object item : (Collection<?>) obj) {
-                    serialize(name + "[" + i + "]", item, fieldList, encoded, DEFAULT_VALUE);
-                    i++;
+                // 如果是数组，按下标展开
+                case ARRAY -> {
+                    Object[] items = (Object[]) obj;
+                    for (int i = 0; i < items.length; i++) {
+                        serialize(name + "[" + i + "]", items[i], sink, encoded, DEFAULT_VALUE);
+                    }
                 }
-                return;
-            }
-
-            // 如果是 Map，按 key 展开
-            if (obj instanceof Map) {
-                for (Map.Entry<?, ?> entry : ((Map<?, ?>) obj).entrySet()) {
-                    serialize(name + "." + entry.getKey().toString(), entry.getValue(), fieldList, encoded, DEFAULT_VALUE);
+                // 如果是集合，按下标展开
+                case COLLECTION -> {
+                    int i = 0;
+                    for (Object item : (Collection<?>) obj) {
+                        serialize(name + "[" + i + "]", item, sink, encoded, DEFAULT_VALUE);
+                        i++;
+                    }
+                }
+                // 如果是 Map，按 key 展开
+                case MAP -> {
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) obj).entrySet()) {
+                        serialize(name + "." + entry.getKey().toString(), entry.getValue(), sink, encoded, DEFAULT_VALUE);
+                    }
+                }
+                // 普通 Java Bean，按解析好的字段展开
+                default -> {
+                    for (Property property : plan.properties) {
+                        Object value = property.get(obj);
+                        if (null == value) {
+                            continue;
+                        }
+                        String newName = name.isEmpty() ? property.name : name + property.suffix;
+                        switch (property.multipart) {
+                            case FILE -> sink.accept(new FormField.FileFormField(newName, (File) value, property.filename));
+                            case BYTES -> sink.accept(new FormField.BytesFormField(newName, (byte[]) value, property.filename));
+                            case STREAM -> sink.accept(new FormField.InputStreamFormField(newName, (InputStream) value, property.filename));
+                            case INVALID -> throw new IllegalArgumentException(property.type.getName() + " is not a valid multipart field");
+                            // 否则递归处理字段
+                            default -> serialize(newName, value, sink, encoded, DEFAULT_VALUE);
+                        }
+                    }
                 }
-                return;
             }
+        }
+    }
 
-            // 普通 Java Bean，反射字段
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true);
+    /**
+     * 类的展开方式
+     */
+    private enum Kind {
+        VALUE, ARRAY, COLLECTION, MAP, BEAN
+    }
 
-                // 如果字段是静态的或者 transient 的，则跳过
-                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
-                    continue;
-                }
+    /**
+     * Multipart 字段类型
+     */
+    private enum MultipartKind {
+        NONE, FILE, BYTES, STREAM, INVALID
+    }
 
-                Object value = ReflectUtils.getValue(field, obj);
+    /**
+     * 类的展开计划
+     *
+     * @param kind       展开方式
+     * @param properties Java Bean 字段，其他方式为空
+     */
+    private record Plan(Kind kind, Property[] properties) {
+        private static final Property[] NO_PROPERTIES = new Property[0];
+
+        private static Plan of(Class<?> type) {
+            if (ReflectUtils.isPrimitiveOrString(type)) {
+                return new Plan(Kind.VALUE, NO_PROPERTIES);
+            }
+            if (type.isArray()) {
+                return new Plan(Kind.ARRAY, NO_PROPERTIES);
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return new Plan(Kind.COLLECTION, NO_PROPERTIES);
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return new Plan(Kind.MAP, NO_PROPERTIES);
+            }
 
-                if (null == value) {
+            List<Property> properties = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                // 如果字段是静态的或者 transient 的，则跳过
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
                     continue;
                 }
+                properties.add(Property.of(field));
+            }
+            return new Plan(Kind.BEAN, properties.toArray(Property[]::new));
+        }
+    }
 
-                // 如果是 Multipart 文件字段，直接添加
-                if (field.isAnnotationPresent(Multipart.class)) {
-                    Multipart multipart = field.getAnnotation(Multipart.class);
-                    String filedName = Opt.ofNullable(multipart.value()).orElse(field.getName());
-                    String newName = name.isEmpty() ? filedName : name + "." + filedName;
-
-                    // 支持 File, byte[], InputStream 类型的字段
-                    if (field.getType() == File.class) {
-                        fieldList.add(new FormField.FileFormField(newName, (File) value, multipart.filename()));
-                        continue;
-                    }
-
-                    if (field.getType() == byte[].class) {
-                        fieldList.add(new FormField.BytesFormField(newName, (byte[]) value, multipart.filename()));
-                        continue;
-                    }
-
-                    if (InputStream.class.isAssignableFrom(field.getType())) {
-                        fieldList.add(new FormField.InputStreamFormField(newName, (InputStream) value, multipart.filename()));
-                        continue;
-                    }
+    /**
+     * Java Bean 字段
+     *
+     * @param name      字段名称，Multipart 字段优先使用注解中的名称
+     * @param suffix    拼接在前缀后的名称
+     * @param type      字段类型
+     * @param getter    字段读取句柄，类型为 (Object)Object
+     * @param multipart Multipart 字段类型
+     * @param filename  Multipart 文件名
+     */
+    private record Property(String name, String suffix, Class<?> type, MethodHandle getter, MultipartKind multipart, String filename) {
+
+        private static Property of(Field field) {
+            field.setAccessible(true);
+            MethodHandle getter;
+            try {
+                getter = MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
 
-                    throw new IllegalArgumentException(field.getType().getName() + " is not a valid multipart field");
+            String name = field.getName();
+            MultipartKind multipart = MultipartKind.NONE;
+            String filename = null;
+            Multipart annotation = field.getAnnotation(Multipart.class);
+            if (null != annotation) {
+                name = StringUtils.isNotBlank(annotation.value()) ? annotation.value() : field.getName();
+                filename = annotation.filename();
+                // 支持 File, byte[], InputStream 类型的字段
+                if (field.getType() == File.class) {
+                    multipart = MultipartKind.FILE;
+                } else if (field.getType() == byte[].class) {
+                    multipart = MultipartKind.BYTES;
+                } else if (InputStream.class.isAssignableFrom(field.getType())) {
+                    multipart = MultipartKind.STREAM;
+                } else {
+                    multipart = MultipartKind.INVALID;
                 }
+            }
+            return new Property(name, "." + name, field.getType(), getter, multipart, filename);
+        }
 
-                // 否则递归处理字段
-                String newName = name.isEmpty() ? field.getName() : name + "." + field.getName();
-                serialize(newName, value, fieldList, encoded, DEFAULT_VALUE);
+        private Object get(Object obj) {
+            try {
+                return getter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
             }
         }
     }
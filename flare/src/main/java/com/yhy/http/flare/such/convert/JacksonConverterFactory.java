@@ -1,24 +1,52 @@
 package com.yhy.http.flare.such.convert;
 
-import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.exc.JacksonIOException;
+import com.fasterxml.jackson.annotation.JsonView;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.JsonFeatures;
+import com.yhy.http.flare.annotation.JsonPointer;
+import com.yhy.http.flare.annotation.Ndjson;
+import com.yhy.http.flare.annotation.ParallelDecode;
+import com.yhy.http.flare.annotation.Unwrap;
 import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.exception.EnvelopeException;
+import com.yhy.http.flare.utils.Assert;
+import com.yhy.http.flare.utils.ReflectUtils;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okio.Buffer;
+import okio.BufferedSink;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * 基于 Jackson 实现的 BodyConverter
@@ -30,7 +58,34 @@ import java.nio.charset.StandardCharsets;
  * @since 1.0.0
  */
 public class JacksonConverterFactory implements BodyConverter.Factory {
-    private final JsonMapper mapper;
+
+    /**
+     * 不使用流式请求体
+     */
+    public static final long STREAMING_DISABLED = -1;
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=UTF-8");
+
+    /**
+     * 基本类型流和对应的基本类型数组，数组由 Jackson 的基本类型数组解析器直接从词法流中读取，不装箱
+     */
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_STREAMS = Map.of(IntStream.class, int[].class, LongStream.class, long[].class, DoubleStream.class, double[].class);
+
+    /**
+     * 从打开的响应体中逐个解析元素的返回值类型
+     */
+    private static final Set<Class<?>> LAZY_TYPES = Set.of(Stream.class, Iterator.class, Iterable.class);
+
+    /**
+     * 发送时逐个序列化元素的请求体类型
+     */
+    private static final Set<Class<?>> SEQUENCE_TYPES = Set.of(Stream.class, Iterator.class, Flow.Publisher.class);
+
+    private static final MediaType NDJSON = MediaType.get("application/x-ndjson");
+
+    private final ObjectMapper mapper;
+    private final MediaType mediaType;
+    private final long streamingThreshold;
 
     /**
      * 创建 JacksonConverterFactory 实例。
@@ -38,7 +93,47 @@ public class JacksonConverterFactory implements BodyConverter.Factory {
      * @param mapper 映射
      */
     public JacksonConverterFactory(JsonMapper mapper) {
+        this(mapper, STREAMING_DISABLED);
+    }
+
+    /**
+     * 创建 JacksonConverterFactory 实例。
+     * <p>
+     * 序列化结果超过 streamingThreshold 字节的请求体在发送时直接写入连接，不在内存中保留完整的 JSON，此时不带 Content-Length；
+     * 不超过阈值的请求体仍然先序列化到内存，保留 Content-Length。
+     *
+     * @param mapper             映射
+     * @param streamingThreshold 流式请求体阈值，字节，0 表示总是流式发送，{@link #STREAMING_DISABLED} 表示不使用流式请求体
+     */
+    public JacksonConverterFactory(JsonMapper mapper, long streamingThreshold) {
+        this(mapper, JSON, streamingThreshold);
+    }
+
+    /**
+     * 创建 JacksonConverterFactory 实例。
+     * <p>
+     * 用于 JSON 以外的 Jackson 数据格式，mapper 的格式需要和 mediaType 一致。
+     *
+     * @param mapper             映射
+     * @param mediaType          请求体和 Accept 使用的媒体类型
+     * @param streamingThreshold 流式请求体阈值，字节，0 表示总是流式发送，{@link #STREAMING_DISABLED} 表示不使用流式请求体
+     */
+    public JacksonConverterFactory(ObjectMapper mapper, MediaType mediaType, long streamingThreshold) {
+        Assert.notNull(mapper, "mapper can not be null.");
+        Assert.notNull(mediaType, "mediaType can not be null.");
         this.mapper = mapper;
+        this.mediaType = mediaType;
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    /**
+     * 媒体类型
+     *
+     * @return 媒体类型
+     */
+    @Override
+    public MediaType mediaType() {
+        return mediaType;
     }
 
     /**
@@ -50,9 +145,20 @@ public class JacksonConverterFactory implements BodyConverter.Factory {
      * @return 处理结果
      */
     @Override
+    @SuppressWarnings("unchecked")
     public @Nullable BodyConverter<?, RequestBody> requestBodyConverter(Type type, Annotation[] parameterAnnotations, Flare flare) {
+        Class<?> arrayType = PRIMITIVE_STREAMS.get(ReflectUtils.getRawType(type));
+        if (null != arrayType) {
+            BodyConverter<Object, RequestBody> converter = (BodyConverter<Object, RequestBody>) requestBodyConverter(arrayType, parameterAnnotations, flare);
+            return new PrimitiveStreamRequestBodyConverter(converter, ReflectUtils.getRawType(type));
+        }
         JavaType javaType = mapper.getTypeFactory().constructType(type);
-        return new JacksonRequestBodyBodyConverter<>(mapper, javaType, flare);
+        if (SEQUENCE_TYPES.contains(javaType.getRawClass())) {
+            boolean ndjson = Arrays.stream(parameterAnnotations).anyMatch(a -> a instanceof Ndjson);
+            Assert.isTrue(!ndjson || mapper instanceof JsonMapper, "@Ndjson requires a JSON mapper, but was {}.", mapper.getClass().getName());
+            return new SequenceRequestBodyConverter(writer(javaType.containedTypeOrUnknown(0), parameterAnnotations), javaType.getRawClass(), ndjson ? NDJSON : mediaType, ndjson);
+        }
+        return new JacksonRequestBodyBodyConverter<>(writer(javaType, parameterAnnotations), javaType, mediaType, streamingThreshold, flare);
     }
 
     /**
@@ -65,13 +171,92 @@ public class JacksonConverterFactory implements BodyConverter.Factory {
      */
     @Override
     public @Nullable BodyConverter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Flare flare) {
+        Class<?> arrayType = PRIMITIVE_STREAMS.get(ReflectUtils.getRawType(type));
+        if (null != arrayType) {
+            return new PrimitiveStreamResponseBodyConverter(responseBodyConverter(arrayType, annotations, flare), ReflectUtils.getRawType(type));
+        }
         JavaType javaType = mapper.getTypeFactory().constructType(type);
-        return new JacksonResponseBodyBodyConverter<>(mapper, javaType, annotations, flare);
+        Envelope envelope = Envelope.of(annotations);
+        ParallelDecode parallel = (ParallelDecode) Arrays.stream(annotations).filter(a -> a instanceof ParallelDecode).findFirst().orElse(null);
+        // 按字节切分记录只适用于 JSON 文本，其他格式忽略 @ParallelDecode
+        if (null != parallel && mapper instanceof JsonMapper) {
+            Assert.isTrue(javaType.hasRawClass(List.class) || javaType.hasRawClass(Collection.class) || javaType.hasRawClass(Stream.class), "@ParallelDecode requires a List<T>, Collection<T> or Stream<T> return type, but was {}.", type.getTypeName());
+            Assert.isTrue(null == envelope && Arrays.stream(annotations).noneMatch(a -> a instanceof JsonPointer), "@ParallelDecode cannot be used with @Unwrap or @JsonPointer.");
+            Assert.isTrue(parallel.chunkSize() > 0, "@ParallelDecode chunkSize must be greater than 0.");
+            return new ParallelResponseBodyConverter(reader(javaType.containedTypeOrUnknown(0), annotations), javaType, parallel.chunkSize(), annotations, flare);
+        }
+        if (LAZY_TYPES.contains(javaType.getRawClass())) {
+            Assert.isNull(envelope, "@Unwrap cannot be used with a {} return type, use @JsonPointer to select the array instead.", type.getTypeName());
+            return new LazyResponseBodyConverter(reader(javaType.containedTypeOrUnknown(0), annotations), javaType, annotations, flare);
+        }
+        ObjectReader reader = reader(javaType, annotations);
+        if (null != envelope) {
+            // 数据字段后面还有其他字段，不能按尾随内容报错
+            reader = reader.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        }
+        return new JacksonResponseBodyBodyConverter<>(reader, javaType, annotations, envelope, flare);
+    }
+
+    /**
+     * 创建请求数据使用的 ObjectWriter，在解析方法时调用一次
+     * <p>
+     * 支持参数上的 {@link JsonView} 和 {@link JsonFeatures}
+     *
+     * @param type        请求数据类型
+     * @param annotations 参数注解
+     * @return ObjectWriter
+     */
+    protected ObjectWriter writer(JavaType type, Annotation[] annotations) {
+        ObjectWriter writer = mapper.writerFor(type);
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof JsonView view && view.value().length > 0) {
+                writer = writer.withView(view.value()[0]);
+            } else if (annotation instanceof JsonFeatures features) {
+                for (SerializationFeature feature : features.enableSerialization()) {
+                    writer = writer.with(feature);
+                }
+                for (SerializationFeature feature : features.disableSerialization()) {
+                    writer = writer.without(feature);
+                }
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * 创建响应数据使用的 ObjectReader，在解析方法时调用一次
+     * <p>
+     * 支持方法上的 {@link JsonView}、{@link JsonFeatures} 和 {@link JsonPointer}
+     *
+     * @param type        响应数据类型
+     * @param annotations 方法注解
+     * @return ObjectReader
+     */
+    protected ObjectReader reader(JavaType type, Annotation[] annotations) {
+        ObjectReader reader = mapper.readerFor(type);
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof JsonView view && view.value().length > 0) {
+                reader = reader.withView(view.value()[0]);
+            } else if (annotation instanceof JsonFeatures features) {
+                for (DeserializationFeature feature : features.enableDeserialization()) {
+                    reader = reader.with(feature);
+                }
+                for (DeserializationFeature feature : features.disableDeserialization()) {
+                    reader = reader.without(feature);
+                }
+            } else if (annotation instanceof JsonPointer pointer) {
+                // 由过滤解析器跳过指针以外的内容
+                try {
+                    reader = reader.at(pointer.value());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid @JsonPointer \"" + pointer.value() + "\": " + e.getMessage(), e);
+                }
+            }
+        }
+        return reader;
     }
 
-    private record JacksonRequestBodyBodyConverter<T>(JsonMapper mapper, JavaType type, Flare flare) implements BodyConverter<T, RequestBody> {
-        private static final MediaType MEDIA_TYPE = MediaType.get("application/json; charset=UTF-8");
-        private static final Charset UTF_8 = StandardCharsets.UTF_8;
+    private record JacksonRequestBodyBodyConverter<T>(ObjectWriter writer, JavaType type, MediaType mediaType, long streamingThreshold, Flare flare) implements BodyConverter<T, RequestBody> {
 
         /**
          * result Type。
@@ -94,32 +279,348 @@ public class JacksonConverterFactory implements BodyConverter.Factory {
         public @NotNull RequestBody convert(T from) throws IOException {
             switch (from) {
                 case null -> {
-                    return RequestBody.create("", MEDIA_TYPE);
+                    return RequestBody.create("", mediaType);
                 }
                 case String text -> {
-                    return RequestBody.create(text, MEDIA_TYPE);
+                    return RequestBody.create(text, mediaType);
                 }
                 case byte[] bytes -> {
-                    return RequestBody.create(bytes, MEDIA_TYPE);
+                    return RequestBody.create(bytes, mediaType);
                 }
                 case RequestBody requestBody -> {
                     return requestBody;
                 }
                 default -> {
-                    // 其他类型，序列化为json
+                    // 其他类型，按 mapper 的格式序列化
+                    if (streamingThreshold == 0) {
+                        return new StreamingRequestBody(writer, mediaType, from);
+                    }
                     Buffer buffer = new Buffer();
-                    Writer writer = new OutputStreamWriter(buffer.outputStream(), UTF_8);
-                    JsonGenerator gen = mapper.writer().forType(type).createGenerator(writer);
-                    mapper.writeValue(gen, from);
-                    gen.close();
-                    return RequestBody.create(buffer.readByteArray(), MEDIA_TYPE);
+                    try {
+                        // Jackson 直接输出 UTF-8 字节，不经过 Writer 编码
+                        writer.writeValue(streamingThreshold > 0 ? new LimitedOutputStream(buffer, streamingThreshold) : buffer.outputStream(), from);
+                    } catch (RuntimeException e) {
+                        if (!LimitedOutputStream.isExceeded(e)) {
+                            throw e;
+                        }
+                        // 超过阈值，丢弃已序列化的部分，发送时再写入连接
+                        buffer.clear();
+                        return new StreamingRequestBody(writer, mediaType, from);
+                    }
+                    if (buffer.size() <= BufferedRequestBody.COPY_LIMIT) {
+                        // 读出后分段回到 SegmentPool，小请求体不必每次分配新的分段
+                        return RequestBody.create(buffer.readByteArray(), mediaType);
+                    }
+                    return new BufferedRequestBody(buffer, mediaType);
                 }
             }
         }
     }
 
-    private record JacksonResponseBodyBodyConverter<T>(JsonMapper mapper, JavaType type, Annotation[] annotations, Flare flare) implements BodyConverter<ResponseBody, T> {
+    /**
+     * 已序列化到内存的请求体，直接共享 Buffer 的分段，不再复制成 byte[]
+     */
+    private static final class BufferedRequestBody extends RequestBody {
+        /**
+         * 不超过一个分段（8 KiB）的请求体复制成 byte[]，共享的分段不会回收
+         */
+        private static final long COPY_LIMIT = 8 * 1024;
+
+        private final Buffer buffer;
+        private final MediaType mediaType;
+
+        private BufferedRequestBody(Buffer buffer, MediaType mediaType) {
+            this.buffer = buffer;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.size();
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            // 重试时会再次写入，这里只复制分段引用，不消费原 Buffer
+            buffer.copyTo(sink.getBuffer(), 0, buffer.size());
+            sink.emitCompleteSegments();
+        }
+    }
+
+    /**
+     * 发送时才序列化的请求体，序列化结果直接写入连接，长度未知
+     */
+    private static final class StreamingRequestBody extends RequestBody {
+        private final ObjectWriter writer;
+        private final MediaType mediaType;
+        private final Object value;
+
+        private StreamingRequestBody(ObjectWriter writer, MediaType mediaType, Object value) {
+            // 连接由 OkHttp 负责关闭
+            this.writer = writer.without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+            this.mediaType = mediaType;
+            this.value = value;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
 
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            try {
+                writer.writeValue(sink.outputStream(), value);
+            } catch (JacksonIOException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 写入超过上限时中止序列化的输出流
+     */
+    private static final class LimitedOutputStream extends OutputStream {
+        private static final IOException EXCEEDED = new ThresholdExceededException();
+
+        private final Buffer buffer;
+        private final long limit;
+
+        private LimitedOutputStream(Buffer buffer, long limit) {
+            this.buffer = buffer;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            check(1);
+            buffer.writeByte(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            check(len);
+            buffer.write(b, off, len);
+        }
+
+        private void check(int len) throws IOException {
+            if (buffer.size() + len > limit) {
+                throw EXCEEDED;
+            }
+        }
+
+        private static boolean isExceeded(Throwable e) {
+            for (Throwable cause = e; null != cause; cause = cause.getCause()) {
+                if (cause == EXCEEDED) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 仅用于中止序列化，不记录堆栈
+     */
+    private static final class ThresholdExceededException extends IOException {
+
+        private ThresholdExceededException() {
+            super("Streaming threshold exceeded.");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stream、Iterator 或 Flow.Publisher 请求体，发送时逐个序列化元素
+     *
+     * @param writer     单个元素的 ObjectWriter
+     * @param sourceType 参数类型
+     * @param mediaType  媒体类型
+     * @param ndjson     是否按行分隔
+     */
+    private record SequenceRequestBodyConverter(ObjectWriter writer, Class<?> sourceType, MediaType mediaType, boolean ndjson) implements BodyConverter<Object, RequestBody> {
+
+        @Override
+        public @NotNull RequestBody convert(Object from) {
+            return new SequenceRequestBody(writer, mediaType, from, ndjson);
+        }
+
+        @Override
+        public Class<?> resultType() {
+            return sourceType;
+        }
+    }
+
+    /**
+     * 基本类型流请求体，转换为基本类型数组后序列化
+     *
+     * @param delegate   基本类型数组的转换器
+     * @param streamType 基本类型流的类型
+     */
+    private record PrimitiveStreamRequestBodyConverter(BodyConverter<Object, RequestBody> delegate, Class<?> streamType) implements BodyConverter<BaseStream<?, ?>, RequestBody> {
+
+        @Override
+        public @NotNull RequestBody convert(BaseStream<?, ?> from) throws IOException {
+            Object array = switch (from) {
+                case null -> null;
+                case IntStream stream -> stream.toArray();
+                case LongStream stream -> stream.toArray();
+                case DoubleStream stream -> stream.toArray();
+                default -> throw new IllegalArgumentException("Unsupported primitive stream: " + from.getClass().getName());
+            };
+            return delegate.convert(array);
+        }
+
+        @Override
+        public Class<?> resultType() {
+            return streamType;
+        }
+    }
+
+    /**
+     * 基本类型流响应体，先解析为基本类型数组
+     *
+     * @param delegate   基本类型数组的转换器
+     * @param streamType 基本类型流的类型
+     */
+    private record PrimitiveStreamResponseBodyConverter(BodyConverter<ResponseBody, ?> delegate, Class<?> streamType) implements BodyConverter<ResponseBody, BaseStream<?, ?>> {
+
+        @Nullable
+        @Override
+        public BaseStream<?, ?> convert(ResponseBody from) throws IOException {
+            return switch (delegate.convert(from)) {
+                case null -> null;
+                case int[] array -> IntStream.of(array);
+                case long[] array -> LongStream.of(array);
+                case double[] array -> DoubleStream.of(array);
+                default -> throw new IllegalStateException("Unexpected primitive array for " + streamType.getName());
+            };
+        }
+
+        @Override
+        public Class<?> resultType() {
+            return streamType;
+        }
+    }
+
+    /**
+     * 并行解析记录的响应体，解析结果为 List 或按顺序的 Stream
+     *
+     * @param reader      单条记录的 ObjectReader
+     * @param type        响应数据类型
+     * @param chunkSize   每个解析任务的记录数
+     * @param annotations 方法注解
+     * @param flare       Flare
+     */
+    private record ParallelResponseBodyConverter(ObjectReader reader, JavaType type, int chunkSize, Annotation[] annotations, Flare flare) implements BodyConverter<ResponseBody, Object> {
+
+        @Nullable
+        @Override
+        public Object convert(ResponseBody from) throws IOException {
+            return responseBodyResolve(from, annotations, this::read, flare.stringConverter());
+        }
+
+        @Override
+        public Class<?> resultType() {
+            return type.getRawClass();
+        }
+
+        private Object read(ResponseBody body) throws IOException {
+            List<Object> values;
+            try (InputStream input = body.byteStream()) {
+                values = ParallelRecordDecoder.decode(input, reader, chunkSize, flare.decodePool());
+            }
+            return type.hasRawClass(Stream.class) ? values.stream() : values;
+        }
+    }
+
+    /**
+     * 逐个解析元素的响应体，支持 JSON 数组和按行分隔的 JSON，元素在读取时才解析
+     * <p>
+     * 响应体在转换后保持打开，由返回的 Stream、Iterator 或 Iterable 负责关闭
+     *
+     * @param reader      单个元素的 ObjectReader
+     * @param type        响应数据类型
+     * @param annotations 方法注解
+     * @param flare       Flare
+     */
+    private record LazyResponseBodyConverter(ObjectReader reader, JavaType type, Annotation[] annotations, Flare flare) implements BodyConverter<ResponseBody, Object> {
+
+        @Nullable
+        @Override
+        public Object convert(ResponseBody from) throws IOException {
+            return responseBodyResolve(from, annotations, this::read, flare.stringConverter());
+        }
+
+        @Override
+        public Class<?> resultType() {
+            return type.getRawClass();
+        }
+
+        private Object read(ResponseBody body) {
+            LazyValues<Object> values;
+            try {
+                // 首个 token 为 [ 时逐个返回数组元素，否则逐个返回顶层值
+                values = new LazyValues<>(reader.readValues(body.byteStream()), body);
+            } catch (RuntimeException e) {
+                body.close();
+                throw e;
+            }
+            if (type.hasRawClass(Stream.class)) {
+                return values.stream();
+            }
+            return type.hasRawClass(Iterator.class) ? values : values.iterable();
+        }
+    }
+
+    /**
+     * {@link Unwrap} 的配置
+     *
+     * @param data    数据字段名
+     * @param status  状态字段名，不校验时为 null
+     * @param success 成功的状态值
+     * @param message 消息字段名
+     */
+    private record Envelope(String data, @Nullable String status, Set<String> success, String message) {
+
+        @Nullable
+        private static Envelope of(Annotation[] annotations) {
+            Unwrap unwrap = null;
+            boolean pointer = false;
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Unwrap u) {
+                    unwrap = u;
+                } else if (annotation instanceof JsonPointer) {
+                    pointer = true;
+                }
+            }
+            if (null == unwrap) {
+                return null;
+            }
+            Assert.isFalse(pointer, "@Unwrap and @JsonPointer cannot be used together.");
+            Assert.hasText(unwrap.value(), "@Unwrap value can not be empty.");
+            return new Envelope(unwrap.value(), unwrap.status().isEmpty() ? null : unwrap.status(), Set.of(unwrap.success()), unwrap.message());
+        }
+    }
+
+    private record JacksonResponseBodyBodyConverter<T>(ObjectReader reader, JavaType type, Annotation[] annotations, @Nullable Envelope envelope, Flare flare) implements BodyConverter<ResponseBody, T> {
         /**
          * result Type。
          *
@@ -140,7 +641,58 @@ public class JacksonConverterFactory implements BodyConverter.Factory {
         @Nullable
         @Override
         public T convert(ResponseBody from) throws IOException {
-            return responseBodyResolve(from, annotations, fm -> mapper.readValue(fm.byteStream(), type), flare.stringConverter());
+            return responseBodyResolve(from, annotations, this::read, flare.stringConverter());
+        }
+
+        private T read(ResponseBody body) throws IOException {
+            // 直接从流中解析，先读成 byte[] 只会多一次复制
+            if (null != envelope) {
+                try (JsonParser parser = reader.createParser(body.byteStream())) {
+                    return unwrap(parser, envelope);
+                }
+            }
+            return reader.readValue(body.byteStream());
+        }
+
+        /**
+         * 逐个扫描顶层字段，只解析数据字段，数据和状态都拿到后不再读取剩余内容
+         */
+        @Nullable
+        private T unwrap(JsonParser parser, Envelope envelope) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            T data = null;
+            String status = null, message = null;
+            boolean dataRead = false, statusRead = null == envelope.status(), failed = false;
+            for (JsonToken token = parser.nextToken(); null != token && token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (!dataRead && !failed && envelope.data().equals(name)) {
+                    data = reader.readValue(parser);
+                    dataRead = true;
+                } else if (!statusRead && envelope.status().equals(name)) {
+                    status = parser.getValueAsString();
+                    statusRead = true;
+                    failed = !envelope.success().contains(status);
+                    parser.skipChildren();
+                } else if (null == message && envelope.message().equals(name)) {
+                    message = parser.getValueAsString();
+                    parser.skipChildren();
+                } else {
+                    parser.skipChildren();
+                }
+                if (statusRead && !failed && dataRead) {
+                    return data;
+                }
+                if (failed && null != message) {
+                    break;
+                }
+            }
+            if (!statusRead || failed) {
+                throw new EnvelopeException(status, message);
+            }
+            return data;
         }
     }
 }
@@ -0,0 +1,111 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.utils.Assert;
+import okhttp3.ResponseBody;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.MappingIterator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 从打开的响应体中逐个解析元素的迭代器
+ * <p>
+ * 元素在调用 {@link #next()} 时才解析，内存占用与响应大小无关。
+ * 读取完毕、解析出错或调用 {@link #close()} 时关闭响应体，释放连接；提前结束时需要关闭迭代器或 Stream。
+ * <p>
+ * Created on 2026-10-17 23:30
+ *
+ * @param <T> 元素类型
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+final class LazyValues<T> implements Iterator<T>, Closeable {
+    private final MappingIterator<T> values;
+    private final ResponseBody body;
+    private boolean closed;
+
+    LazyValues(MappingIterator<T> values, ResponseBody body) {
+        this.values = values;
+        this.body = body;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        boolean hasNext;
+        try {
+            hasNext = values.hasNext();
+        } catch (RuntimeException e) {
+            close();
+            throw unwrap(e);
+        }
+        if (!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return values.next();
+        } catch (RuntimeException e) {
+            close();
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            values.close();
+        } finally {
+            body.close();
+        }
+    }
+
+    /**
+     * 按顺序的 Stream，关闭 Stream 时关闭响应体
+     *
+     * @return Stream
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+    }
+
+    /**
+     * 只能遍历一次的 Iterable
+     *
+     * @return Iterable
+     */
+    Iterable<T> iterable() {
+        AtomicBoolean used = new AtomicBoolean();
+        return () -> {
+            Assert.state(used.compareAndSet(false, true), "Response values can only be iterated once.");
+            return this;
+        };
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) {
+        return e instanceof JacksonIOException && e.getCause() instanceof IOException io ? new UncheckedIOException(io) : e;
+    }
+}
@@ -0,0 +1,112 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.utils.Assert;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 按响应 Content-Type 选择转换器的 BodyConverter
+ * <p>
+ * 候选转换器在解析方法时已经创建好，响应时只按 type/subtype 查找一次，
+ * Content-Type 缺失或没有匹配的转换器时使用默认转换器。
+ * <p>
+ * Created on 2026-10-17 20:40
+ *
+ * @param <T> 响应数据类型
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class NegotiatingBodyConverter<T> implements BodyConverter<ResponseBody, T> {
+    private final BodyConverter<ResponseBody, T> primary;
+    private final Map<String, BodyConverter<ResponseBody, T>> alternatives;
+
+    private NegotiatingBodyConverter(BodyConverter<ResponseBody, T> primary, Map<String, BodyConverter<ResponseBody, T>> alternatives) {
+        this.primary = primary;
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * 创建 NegotiatingBodyConverter 实例。
+     *
+     * @param primary      默认转换器
+     * @param alternatives 按 {@link #key(MediaType)} 索引的候选转换器
+     * @param <T>          响应数据类型
+     * @return NegotiatingBodyConverter 实例
+     */
+    public static <T> NegotiatingBodyConverter<T> of(BodyConverter<ResponseBody, T> primary, Map<String, BodyConverter<ResponseBody, T>> alternatives) {
+        Assert.notNull(primary, "primary can not be null.");
+        return new NegotiatingBodyConverter<>(primary, Map.copyOf(alternatives));
+    }
+
+    /**
+     * 媒体类型的索引，只包含 type/subtype，忽略 charset 等参数
+     *
+     * @param mediaType 媒体类型
+     * @return 索引
+     */
+    public static String key(MediaType mediaType) {
+        return mediaType.type() + "/" + mediaType.subtype();
+    }
+
+    /**
+     * 两个媒体类型的 type/subtype 是否相同
+     *
+     * @param a 媒体类型
+     * @param b 媒体类型
+     * @return 是否相同
+     */
+    public static boolean sameType(@Nullable MediaType a, @Nullable MediaType b) {
+        return null != a && null != b && key(a).equals(key(b));
+    }
+
+    /**
+     * 转换数据。
+     *
+     * @param from 响应体
+     * @return 处理结果
+     * @throws IOException 调用异常
+     */
+    @Override
+    public T convert(ResponseBody from) throws IOException {
+        return select(from.contentType()).convert(from);
+    }
+
+    /**
+     * result Type。
+     *
+     * @return 处理结果
+     */
+    @Override
+    public Class<?> resultType() {
+        return primary.resultType();
+    }
+
+    /**
+     * 默认转换器
+     *
+     * @return 默认转换器
+     */
+    public BodyConverter<ResponseBody, T> primary() {
+        return primary;
+    }
+
+    /**
+     * 按媒体类型选择转换器
+     *
+     * @param contentType 响应的 Content-Type
+     * @return 转换器
+     */
+    public BodyConverter<ResponseBody, T> select(@Nullable MediaType contentType) {
+        if (null == contentType) {
+            return primary;
+        }
+        BodyConverter<ResponseBody, T> converter = alternatives.get(key(contentType));
+        return null != converter ? converter : primary;
+    }
+}
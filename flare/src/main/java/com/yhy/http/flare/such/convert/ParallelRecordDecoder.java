@@ -0,0 +1,283 @@
+package com.yhy.http.flare.such.convert;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.UnexpectedEndOfInputException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+
+/**
+ * 并行解析 JSON 数组和 NDJSON
+ * <p>
+ * 读取时按记录边界切分字节，每 chunkSize 条记录作为一个任务提交到 ForkJoinPool，按提交顺序合并结果。
+ * 未完成的任务最多保留 parallelism * 2 个，读取快于解析时先等待最早的任务，内存中的原始字节有上限。
+ * 最后一个分段由调用线程解析，记录数不足一个分段时不经过线程池。
+ * 线程池并行度为 1 时切分只会增加复制和解析器的创建，直接用一个解析器顺序解析。
+ * <p>
+ * Created on 2026-10-17 22:30
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class ParallelRecordDecoder {
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private ParallelRecordDecoder() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 默认的解析线程池，并行度为 CPU 核数，守护线程，首次使用时创建
+     *
+     * @return 解析线程池
+     */
+    public static ForkJoinPool defaultPool() {
+        return DefaultPool.INSTANCE;
+    }
+
+    /**
+     * 解析全部记录
+     *
+     * @param input     输入流
+     * @param reader    单条记录的 ObjectReader
+     * @param chunkSize 每个任务的记录数
+     * @param pool      解析线程池
+     * @param <T>       记录类型
+     * @return 按原顺序排列的记录
+     * @throws IOException 读取异常或 JSON 数组不完整
+     */
+    public static <T> List<T> decode(InputStream input, ObjectReader reader, int chunkSize, ForkJoinPool pool) throws IOException {
+        if (pool.getParallelism() <= 1) {
+            return sequential(input, reader);
+        }
+        Deque<ForkJoinTask<List<T>>> pending = new ArrayDeque<>();
+        List<T> result = new ArrayList<>();
+        int maxPending = Math.max(1, pool.getParallelism() * 2);
+        Splitter splitter = new Splitter(chunkSize, chunk -> {
+            if (pending.size() >= maxPending) {
+                result.addAll(pending.poll().join());
+            }
+            pending.add(pool.submit(() -> chunk.<T>decode(reader)));
+        });
+        try {
+            byte[] block = new byte[BLOCK_SIZE];
+            for (int n; !splitter.finished && (n = input.read(block)) != -1; ) {
+                splitter.feed(block, n);
+            }
+            List<T> tail = splitter.finish().decode(reader);
+            while (!pending.isEmpty()) {
+                result.addAll(pending.poll().join());
+            }
+            result.addAll(tail);
+            return result;
+        } finally {
+            // 出错时取消还未开始的任务
+            pending.forEach(task -> task.cancel(false));
+        }
+    }
+
+    /**
+     * 单个解析器顺序解析，首个 token 为 [ 时解析数组元素，否则解析顶层值
+     */
+    private static <T> List<T> sequential(InputStream input, ObjectReader reader) throws IOException {
+        List<T> result = new ArrayList<>();
+        // 每条记录后面还有其他记录，不能按尾随内容报错
+        ObjectReader records = reader.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        try (JsonParser parser = records.createParser(input)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (null == token) {
+                        throw new EOFException("Unexpected end of JSON array.");
+                    }
+                    result.add(records.readValue(parser));
+                }
+                return result;
+            }
+            for (; null != token; token = parser.nextToken()) {
+                result.add(records.readValue(parser));
+            }
+            return result;
+        } catch (UnexpectedEndOfInputException e) {
+            EOFException eof = new EOFException(e.getOriginalMessage());
+            eof.initCause(e);
+            throw eof;
+        }
+    }
+
+    /**
+     * 按记录边界切分字节
+     * <p>
+     * JSON 数组只跟踪嵌套深度和字符串状态，深度为 0 的逗号和结束的 ] 为记录边界；NDJSON 以换行为记录边界，空行忽略。
+     * 记录本身的合法性由 Jackson 解析时校验。
+     */
+    private static final class Splitter {
+        private final int chunkSize;
+        private final Consumer<Chunk> consumer;
+        private Chunk chunk = new Chunk();
+        private boolean started;
+        private boolean array;
+        private int depth;
+        private boolean inString;
+        private boolean escape;
+        private boolean inRecord;
+        private boolean finished;
+
+        private Splitter(int chunkSize, Consumer<Chunk> consumer) {
+            this.chunkSize = chunkSize;
+            this.consumer = consumer;
+        }
+
+        private void feed(byte[] block, int length) {
+            // 跨块的记录从块首继续
+            int start = 0;
+            for (int i = 0; i < length && !finished; i++) {
+                byte b = block[i];
+                if (!started) {
+                    if (isWhitespace(b)) {
+                        continue;
+                    }
+                    started = true;
+                    if (b == '[') {
+                        array = true;
+                        continue;
+                    }
+                }
+                if (!array) {
+                    if (b == '\n') {
+                        if (inRecord) {
+                            end(block, start, i);
+                        }
+                    } else if (!inRecord && !isWhitespace(b)) {
+                        inRecord = true;
+                        start = i;
+                    }
+                    continue;
+                }
+                if (inString) {
+                    if (escape) {
+                        escape = false;
+                    } else if (b == '\\') {
+                        escape = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (b == ',' && depth == 0) {
+                    end(block, start, i);
+                    continue;
+                }
+                if (b == ']' && depth == 0) {
+                    if (inRecord) {
+                        end(block, start, i);
+                    }
+                    finished = true;
+                    continue;
+                }
+                switch (b) {
+                    case '{', '[' -> depth++;
+                    case '}', ']' -> depth--;
+                    case '"' -> inString = true;
+                    default -> {
+                        if (isWhitespace(b)) {
+                            continue;
+                        }
+                    }
+                }
+                if (!inRecord) {
+                    inRecord = true;
+                    start = i;
+                }
+            }
+            if (inRecord) {
+                chunk.append(block, start, length);
+            }
+        }
+
+        private Chunk finish() throws IOException {
+            if (array && !finished) {
+                throw new EOFException("Unexpected end of JSON array.");
+            }
+            if (inRecord) {
+                // NDJSON 最后一行没有换行符
+                chunk.mark();
+                inRecord = false;
+            }
+            return chunk;
+        }
+
+        private void end(byte[] block, int start, int end) {
+            chunk.append(block, start, end);
+            chunk.mark();
+            inRecord = false;
+            if (chunk.count == chunkSize) {
+                consumer.accept(chunk);
+                chunk = new Chunk();
+            }
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+    }
+
+    /**
+     * 一个解析任务的记录，连续存放，ends 为每条记录的结束位置
+     */
+    private static final class Chunk {
+        private byte[] data = new byte[8 * 1024];
+        private int size;
+        private int[] ends = new int[64];
+        private int count;
+
+        private void append(byte[] block, int from, int to) {
+            int length = to - from;
+            if (size + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + length));
+            }
+            System.arraycopy(block, from, data, size, length);
+            size += length;
+        }
+
+        private void mark() {
+            if (count == ends.length) {
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            ends[count++] = size;
+        }
+
+        private <T> List<T> decode(ObjectReader reader) {
+            List<T> values = new ArrayList<>(count);
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                values.add(reader.readValue(data, start, ends[i] - start));
+                start = ends[i];
+            }
+            return values;
+        }
+    }
+
+    private static final class DefaultPool {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("flare-decode-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+}
@@ -0,0 +1,198 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.utils.Assert;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 从 Stream、Iterator 或 Flow.Publisher 逐个序列化元素的请求体
+ * <p>
+ * 发送时才读取元素，序列化结果直接写入连接，长度未知，使用 chunked 传输；元素只能读取一次，所以是 one-shot 请求体，不会被重试。
+ * Flow.Publisher 按 {@link #BATCH} 个元素请求数据，写入一半后再请求，发布者不会比连接写得更快。
+ * <p>
+ * Created on 2026-10-18 00:10
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+final class SequenceRequestBody extends RequestBody {
+
+    /**
+     * 向 Flow.Publisher 请求的元素数量
+     */
+    static final int BATCH = 256;
+
+    private final ObjectWriter writer;
+    private final MediaType mediaType;
+    private final Object source;
+    private final boolean ndjson;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    /**
+     * 创建 SequenceRequestBody 实例。
+     *
+     * @param writer    单个元素的 ObjectWriter
+     * @param mediaType 媒体类型
+     * @param source    Stream、Iterator 或 Flow.Publisher
+     * @param ndjson    是否按行分隔，否则为 JSON 数组
+     */
+    SequenceRequestBody(ObjectWriter writer, MediaType mediaType, Object source, boolean ndjson) {
+        // 连接由 OkHttp 负责关闭
+        ObjectWriter target = writer.without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+        this.writer = ndjson ? target.withRootValueSeparator("\n") : target;
+        this.mediaType = mediaType;
+        this.source = source;
+        this.ndjson = ndjson;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return mediaType;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        Assert.state(consumed.compareAndSet(false, true), "Streaming request body can only be written once.");
+        long count;
+        try (SequenceWriter sequence = ndjson ? writer.writeValues(sink.outputStream()) : writer.writeValuesAsArray(sink.outputStream())) {
+            count = switch (source) {
+                case Stream<?> stream -> {
+                    try (stream) {
+                        yield write(sequence, stream.iterator());
+                    }
+                }
+                case Iterator<?> iterator -> write(sequence, iterator);
+                case Flow.Publisher<?> publisher -> write(sequence, publisher);
+                default -> throw new IllegalStateException("Unsupported body source: " + source.getClass().getName());
+            };
+        } catch (JacksonIOException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+        if (ndjson && count > 0) {
+            sink.writeByte('\n');
+        }
+    }
+
+    private static long write(SequenceWriter sequence, Iterator<?> iterator) {
+        long count = 0;
+        while (iterator.hasNext()) {
+            sequence.write(iterator.next());
+            count++;
+        }
+        return count;
+    }
+
+    private static long write(SequenceWriter sequence, Flow.Publisher<?> publisher) throws IOException {
+        PublisherSource source = new PublisherSource();
+        publisher.subscribe(source);
+        long count = 0;
+        try {
+            for (Object item = source.take(); item != PublisherSource.END; item = source.take()) {
+                sequence.write(item);
+                count++;
+            }
+        } finally {
+            source.cancel();
+        }
+        return count;
+    }
+
+    /**
+     * 把 Flow.Publisher 的推送转换为阻塞读取，未读取的元素最多 {@link #BATCH} 个
+     */
+    private static final class PublisherSource implements Flow.Subscriber<Object> {
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(BATCH + 1);
+        private volatile Flow.Subscription subscription;
+        private int taken;
+        private boolean done;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(BATCH);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (!queue.offer(item)) {
+                // 发布者没有遵守请求的数量
+                subscription.cancel();
+                queue.offer(new Failure(new IllegalStateException("Publisher sent more items than requested.")));
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            queue.offer(new Failure(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            queue.offer(END);
+        }
+
+        private Object take() throws IOException {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the publisher.");
+            }
+            if (item == END) {
+                done = true;
+                return END;
+            }
+            if (item instanceof Failure failure) {
+                done = true;
+                throw failure.cause() instanceof IOException io ? io : new IOException("Publisher failed.", failure.cause());
+            }
+            if (++taken == BATCH / 2) {
+                taken = 0;
+                subscription.request(BATCH / 2);
+            }
+            return item;
+        }
+
+        private void cancel() {
+            Flow.Subscription current = subscription;
+            if (!done && null != current) {
+                current.cancel();
+            }
+        }
+    }
+
+    private record Failure(Throwable cause) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.yhy.http.flare.such.convert;
+
+import okhttp3.MediaType;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * 基于 Jackson Smile 实现的 BodyConverter
+ * <p>
+ * Smile 是 JSON 的二进制编码，数据模型和 JSON 相同，体积更小，解析更快。
+ * tools.jackson.dataformat:jackson-dataformat-smile 为可选依赖，需要由使用方引入，缺少时该类无法加载，Flare 的其他部分不受影响。
+ * <p>
+ * Created on 2026-10-17 20:15
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class SmileConverterFactory extends JacksonConverterFactory {
+
+    /**
+     * Smile 媒体类型
+     */
+    public static final MediaType MEDIA_TYPE = MediaType.get("application/x-jackson-smile");
+
+    /**
+     * 创建 SmileConverterFactory 实例。
+     */
+    public SmileConverterFactory() {
+        this(SmileMapper.builder().build());
+    }
+
+    /**
+     * 创建 SmileConverterFactory 实例。
+     *
+     * @param mapper 映射
+     */
+    public SmileConverterFactory(SmileMapper mapper) {
+        this(mapper, STREAMING_DISABLED);
+    }
+
+    /**
+     * 创建 SmileConverterFactory 实例。
+     *
+     * @param mapper             映射
+     * @param streamingThreshold 流式请求体阈值，字节，0 表示总是流式发送，{@link #STREAMING_DISABLED} 表示不使用流式请求体
+     */
+    public SmileConverterFactory(SmileMapper mapper, long streamingThreshold) {
+        super(mapper, MEDIA_TYPE, streamingThreshold);
+    }
+}
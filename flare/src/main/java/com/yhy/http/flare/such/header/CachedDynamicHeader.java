@@ -0,0 +1,192 @@
+package com.yhy.http.flare.such.header;
+
+import com.yhy.http.flare.annotation.Header;
+import com.yhy.http.flare.model.HttpHeader;
+import com.yhy.http.flare.such.SystemClock;
+import com.yhy.http.flare.utils.Assert;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 带缓存的动态请求头
+ * <p>
+ * 按方法缓存 {@link Header.Dynamic} 的结果，有效期优先使用 {@link Header.Dynamic#expiresIn(Method, HttpHeader)} 的返回值。
+ * 缓存未命中时同一方法只有一个线程去获取，其他线程等待同一个结果；临近过期时在后台提前刷新，请求线程继续使用旧值。
+ * 获取失败或返回无效请求头时不缓存。
+ * <p>
+ * Created on 2026-10-17 17:40
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Slf4j
+public final class CachedDynamicHeader implements Header.Dynamic {
+    private static final ThreadFactory REFRESHER = Thread.ofVirtual().name("flare-header-refresh-", 0).factory();
+
+    private final Header.Dynamic delegate;
+    private final long ttl;
+    private final long refreshAhead;
+    private final Map<Method, Slot> slots = new ConcurrentHashMap<>();
+
+    private CachedDynamicHeader(Header.Dynamic delegate, long ttl, long refreshAhead) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+    }
+
+    /**
+     * 创建带缓存的动态请求头，剩余有效期不足五分之一时后台刷新
+     *
+     * @param delegate 动态请求头
+     * @param ttl      默认有效期，毫秒
+     * @return 带缓存的动态请求头
+     */
+    public static CachedDynamicHeader of(Header.Dynamic delegate, long ttl) {
+        return of(delegate, ttl, ttl / 5);
+    }
+
+    /**
+     * 创建带缓存的动态请求头
+     *
+     * @param delegate     动态请求头
+     * @param ttl          默认有效期，毫秒
+     * @param refreshAhead 剩余有效期不足该值时后台刷新，毫秒，最多为有效期的一半，0 表示不提前刷新
+     * @return 带缓存的动态请求头
+     */
+    public static CachedDynamicHeader of(Header.Dynamic delegate, long ttl, long refreshAhead) {
+        Assert.notNull(delegate, "delegate can not be null.");
+        Assert.isTrue(ttl > 0, "ttl must be greater than 0.");
+        Assert.isTrue(refreshAhead >= 0 && refreshAhead < ttl, "refreshAhead must be in [0, ttl).");
+        if (delegate instanceof CachedDynamicHeader cached) {
+            delegate = cached.delegate;
+        }
+        return new CachedDynamicHeader(delegate, ttl, refreshAhead);
+    }
+
+    /**
+     * 获取请求头，优先使用缓存
+     *
+     * @param method 动态代理类中的接口方法反射对象
+     * @return 请求头
+     */
+    @Override
+    public HttpHeader header(Method method) {
+        Slot slot = slots.get(method);
+        if (null == slot) {
+            slot = slots.computeIfAbsent(method, m -> new Slot());
+        }
+
+        Value value = slot.value;
+        long now = SystemClock.now();
+        if (null != value && now < value.expiresAt) {
+            if (now >= value.refreshAt) {
+                refreshInBackground(method, slot);
+            }
+            return value.header;
+        }
+        return load(method, slot);
+    }
+
+    /**
+     * 有效期，由被缓存的动态请求头决定
+     *
+     * @param method 方法
+     * @param header 请求头
+     * @return 有效期，毫秒
+     */
+    @Override
+    public long expiresIn(Method method, HttpHeader header) {
+        return delegate.expiresIn(method, header);
+    }
+
+    private HttpHeader load(Method method, Slot slot) {
+        CompletableFuture<HttpHeader> flight = new CompletableFuture<>();
+        CompletableFuture<HttpHeader> running = slot.inflight.compareAndExchange(null, flight);
+        if (null != running) {
+            // 已经有线程在获取，等待同一个结果
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        // 拿到执行权后再检查一次，避免重复获取刚刚被其他线程写入的值
+        Value value = slot.value;
+        if (null != value && SystemClock.now() < value.expiresAt) {
+            slot.inflight.set(null);
+            flight.complete(value.header);
+            return value.header;
+        }
+        try {
+            HttpHeader header = fetch(method, slot);
+            flight.complete(header);
+            return header;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            slot.inflight.compareAndSet(flight, null);
+        }
+    }
+
+    private void refreshInBackground(Method method, Slot slot) {
+        CompletableFuture<HttpHeader> flight = new CompletableFuture<>();
+        if (!slot.inflight.compareAndSet(null, flight)) {
+            return;
+        }
+        REFRESHER.newThread(() -> {
+            try {
+                flight.complete(fetch(method, slot));
+            } catch (Throwable e) {
+                // 旧值仍在有效期内，刷新失败时继续使用，过期后由请求线程重新获取
+                log.warn("Unable to refresh dynamic header for method {}", method.getName(), e);
+                flight.completeExceptionally(e);
+            } finally {
+                slot.inflight.compareAndSet(flight, null);
+            }
+        }).start();
+    }
+
+    private HttpHeader fetch(Method method, Slot slot) {
+        HttpHeader header = delegate.header(method);
+        if (null == header || !header.isValid()) {
+            return header;
+        }
+        long expiresIn = delegate.expiresIn(method, header);
+        if (expiresIn < 0) {
+            expiresIn = ttl;
+        }
+        if (expiresIn > 0) {
+            long now = SystemClock.now();
+            slot.value = new Value(header, now + expiresIn, now + Math.max(0, expiresIn - Math.min(refreshAhead, expiresIn / 2)));
+        }
+        return header;
+    }
+
+    /**
+     * 单个方法的缓存
+     */
+    private static final class Slot {
+        private final AtomicReference<CompletableFuture<HttpHeader>> inflight = new AtomicReference<>();
+        private volatile Value value;
+    }
+
+    /**
+     * 缓存值
+     *
+     * @param header    请求头
+     * @param expiresAt 过期时间
+     * @param refreshAt 开始后台刷新的时间
+     */
+    private record Value(HttpHeader header, long expiresAt, long refreshAt) {
+    }
+}
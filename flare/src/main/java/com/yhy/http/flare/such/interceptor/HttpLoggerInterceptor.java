@@ -19,6 +19,9 @@ import java.util.*;
 /**
  * 默认的日志打印器
  * <p>
+ * 长度已知的响应体会完整读入内存后再交给调用方；长度未知的响应体（如边读边解析的 Stream、Iterator 返回值）
+ * 只记录开头 {@link #UNKNOWN_LENGTH_LOG_LIMIT} 字节，不改变原响应体；事件流和 NDJSON 不记录响应体。
+ * <p>
  * Created on 2025-09-10 16:34
  *
  * @author 颜洪毅
@@ -29,6 +32,11 @@ import java.util.*;
 public class HttpLoggerInterceptor implements Interceptor {
     private final static SimpleDateFormat FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss E", Locale.getDefault());
 
+    /**
+     * 长度未知的响应体最多记录的字节数
+     */
+    static final long UNKNOWN_LENGTH_LOG_LIMIT = 16 * 1024;
+
     /**
      * 拦截请求。
      *
@@ -63,11 +71,21 @@ public class HttpLoggerInterceptor implements Interceptor {
         RequestBody reqBody = request.body();
         if (null != reqBody) {
             lines.empty().line("-- Request Body --");
-            lines.line(requestBodyToString(requestContentType, reqBody).replace(System.lineSeparator(), System.lineSeparator() + "│ "));
+            if (null != request.header("Content-Encoding")) {
+                // 已压缩的请求体写出来也是压缩后的字节，而且会再压缩一遍
+                lines.line("(encoded body is not logged)");
+            } else {
+                lines.line(requestBodyToString(requestContentType, reqBody).replace(System.lineSeparator(), System.lineSeparator() + "│ "));
+            }
         }
 
         Response wrapResponse;
-        try (Response response = chain.proceed(request)) {
+        Response response = chain.proceed(request);
+        // 事件流和按行分隔的 JSON 由调用方边读边处理，不能在这里读完
+        boolean streaming = isStreaming(response.body().contentType());
+        // 长度未知的响应体只预读开头一部分，原响应体交给调用方继续读取
+        boolean passThrough = streaming || response.body().contentLength() == -1;
+        try {
             String responseContentTypeString = response.header("Content-Type");
             headers = response.headers();
             names = headers.names();
@@ -80,28 +98,41 @@ public class HttpLoggerInterceptor implements Interceptor {
                 lines.line(name + " : " + value);
             }
 
-            ResponseBody resBody = response.body();
-            MediaType responseContentType = resBody.contentType();
-            if (null == responseContentTypeString || responseContentTypeString.isEmpty()) {
-                responseContentTypeString = Optional.ofNullable(responseContentType).map(MediaType::toString).orElse("");
-            }
-            String encoding = Optional.ofNullable(response.header("Content-Encoding")).orElse("");
-            BufferedSource source;
-            if ("gzip".equals(encoding)) {
-                source = Okio.buffer(new GzipSource(resBody.source()));
+            if (streaming) {
+                lines.empty().line("-- Response Body --").line("(streaming body is not logged)");
+                wrapResponse = response;
+            } else if (passThrough) {
+                lines.empty().line("-- Response Body --");
+                lines.line(peekResponseBody(response).replace(System.lineSeparator(), System.lineSeparator() + "│ "));
+                wrapResponse = response;
             } else {
-                source = resBody.source();
+                ResponseBody resBody = response.body();
+                MediaType responseContentType = resBody.contentType();
+                if (null == responseContentTypeString || responseContentTypeString.isEmpty()) {
+                    responseContentTypeString = Optional.ofNullable(responseContentType).map(MediaType::toString).orElse("");
+                }
+                String encoding = Optional.ofNullable(response.header("Content-Encoding")).orElse("");
+                BufferedSource source;
+                if ("gzip".equals(encoding)) {
+                    source = Okio.buffer(new GzipSource(resBody.source()));
+                } else {
+                    source = resBody.source();
+                }
+
+                lines.empty().line("-- Response Body --");
+                byte[] bytes = source.readByteArray();
+
+                String content = responseToString(responseContentTypeString, bytes);
+                lines.line(content.replace(System.lineSeparator(), System.lineSeparator() + "│ "));
+
+                // 重组 Response
+                // 须移除 Content-Encoding，因为当前 body 已解压
+                wrapResponse = response.newBuilder().removeHeader("Content-Encoding").body(ResponseBody.create(bytes, responseContentType)).build();
+            }
+        } finally {
+            if (!passThrough) {
+                response.close();
             }
-
-            lines.empty().line("-- Response Body --");
-            byte[] bytes = source.readByteArray();
-
-            String content = responseToString(responseContentTypeString, bytes);
-            lines.line(content.replace(System.lineSeparator(), System.lineSeparator() + "│ "));
-
-            // 重组 Response
-            // 须移除 Content-Encoding，因为当前 body 已解压
-            wrapResponse = response.newBuilder().removeHeader("Content-Encoding").body(ResponseBody.create(bytes, responseContentType)).build();
         }
 
         // 结束时间
@@ -132,6 +163,14 @@ public class HttpLoggerInterceptor implements Interceptor {
         log.info(sb.toString());
     }
 
+    private static boolean isStreaming(MediaType contentType) {
+        if (null == contentType) {
+            return false;
+        }
+        String type = contentType.type() + "/" + contentType.subtype();
+        return "text/event-stream".equals(type) || "application/x-ndjson".equals(type);
+    }
+
     private String requestBodyToString(String contentType, RequestBody body) throws IOException {
         // 如果是二进制的 body，则直接返回 (binary body is not supported) 字符串
         if (null == contentType || contentType.isEmpty()) {
@@ -143,12 +182,33 @@ public class HttpLoggerInterceptor implements Interceptor {
         if (body.isOneShot()) {
             return "(one-shot body is not supported)";
         }
+        if (body.contentLength() == -1) {
+            // 长度未知的请求体在发送时才序列化，提前写一遍会把整个请求体读入内存
+            return "(streaming body is not logged)";
+        }
 
         Buffer buffer = new Buffer();
         body.writeTo(buffer);
         return buffer.readUtf8();
     }
 
+    private String peekResponseBody(Response response) throws IOException {
+        String encoding = Optional.ofNullable(response.header("Content-Encoding")).orElse("");
+        // 通过 peek 读取，读到的内容留在原 source 的缓冲区中，不影响调用方读取
+        BufferedSource source = response.body().source().peek();
+        if ("gzip".equals(encoding)) {
+            source = Okio.buffer(new GzipSource(source));
+        } else if (!encoding.isEmpty() && !"identity".equals(encoding)) {
+            return "(encoded body of unknown length is not logged)";
+        }
+        // 最多阻塞到读够上限或响应结束
+        boolean truncated = source.request(UNKNOWN_LENGTH_LOG_LIMIT + 1);
+        byte[] bytes = source.readByteArray(Math.min(source.getBuffer().size(), UNKNOWN_LENGTH_LOG_LIMIT));
+        String contentType = Optional.ofNullable(response.body().contentType()).map(MediaType::toString).orElse("");
+        String content = responseToString(contentType, bytes);
+        return truncated ? content + System.lineSeparator() + "(truncated, body length unknown)" : content;
+    }
+
     private String responseToString(String contentType, byte[] bytes) {
         if (contentType.startsWith("application/octet-stream")) {
             return "(binary body is not supported)";
@@ -0,0 +1,128 @@
+package com.yhy.http.flare.such.sse;
+
+import okio.BufferedSource;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * text/event-stream 解析器
+ * <p>
+ * 按行从 source 中读取，每次返回一个完整的事件，不缓存整个响应。
+ * 支持 data、event、id、retry 字段和注释行，多行 data 以换行符连接；行尾支持 LF 和 CRLF。
+ * 结尾没有空行的不完整事件按规范丢弃。
+ * <p>
+ * Created on 2026-10-17 23:45
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public final class EventStreamParser {
+    private static final String DEFAULT_EVENT = "message";
+
+    private final BufferedSource source;
+    @Nullable
+    private String lastEventId;
+    private long retry = -1;
+    private boolean started;
+
+    /**
+     * 创建 EventStreamParser 实例。
+     *
+     * @param source      事件流
+     * @param lastEventId 重连前最近一次收到的事件 id
+     */
+    public EventStreamParser(BufferedSource source, @Nullable String lastEventId) {
+        this.source = source;
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * 读取下一个事件
+     *
+     * @return 事件，流结束时为 null
+     * @throws IOException 读取异常
+     */
+    @Nullable
+    public Event next() throws IOException {
+        StringBuilder data = null;
+        String event = null;
+        for (String line = source.readUtf8Line(); null != line; line = source.readUtf8Line()) {
+            if (!started) {
+                started = true;
+                if (line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+            }
+            if (line.isEmpty()) {
+                if (null != data) {
+                    return new Event(lastEventId, null != event && !event.isEmpty() ? event : DEFAULT_EVENT, data.toString());
+                }
+                event = null;
+                continue;
+            }
+            if (line.charAt(0) == ':') {
+                // 注释，常用于保活
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            String value = colon < 0 ? "" : line.substring(colon + 1 < line.length() && line.charAt(colon + 1) == ' ' ? colon + 2 : colon + 1);
+            switch (field) {
+                case "data" -> data = null == data ? new StringBuilder(value) : data.append('\n').append(value);
+                case "event" -> event = value;
+                case "id" -> {
+                    if (value.indexOf('\0') < 0) {
+                        lastEventId = value;
+                    }
+                }
+                case "retry" -> retry = parseRetry(value, retry);
+                default -> {
+                    // 未知字段忽略
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 最近一次收到的事件 id，空字符串表示服务端重置了 id
+     *
+     * @return 事件 id
+     */
+    @Nullable
+    public String lastEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * 服务端指定的重连间隔
+     *
+     * @return 重连间隔，毫秒，未指定时为 -1
+     */
+    public long retry() {
+        return retry;
+    }
+
+    private static long parseRetry(String value, long current) {
+        if (value.isEmpty() || !value.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            return current;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return current;
+        }
+    }
+
+    /**
+     * 未解析数据的事件
+     *
+     * @param id    最近一次收到的事件 id
+     * @param event 事件类型
+     * @param data  数据
+     */
+    public record Event(@Nullable String id, String event, String data) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.yhy.http.flare.such.sse;
+
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.exception.HttpException;
+import com.yhy.http.flare.http.request.RequestFactory;
+import com.yhy.http.flare.model.InternalResponse;
+import com.yhy.http.flare.model.ServerSentEvent;
+import com.yhy.http.flare.utils.BufferUtils;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-Sent Events 发布者
+ * <p>
+ * 每个订阅者使用独立的连接，在第一次 request 时由一个虚拟线程同步发送请求并逐个解析事件，
+ * 不占用 OkHttp Dispatcher 的并发名额，也不占用平台线程。没有需求时读取线程等待，由 TCP 流控向服务端施加背压。
+ * 每次连接都通过 RequestFactory 重新创建请求，动态请求头不会停留在调用时的值；连接断开后按 retry 间隔重连并带上 Last-Event-ID；204 响应表示服务端要求停止，发布者正常结束；其他非 2xx 响应以 {@link HttpException} 结束。
+ * <p>
+ * Created on 2026-10-17 23:45
+ *
+ * @param <T> 数据类型
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+@Slf4j
+public final class EventStreamPublisher<T> implements Flow.Publisher<ServerSentEvent<T>> {
+    private static final String ACCEPT = "text/event-stream";
+
+    private final RequestFactory requestFactory;
+    private final Object[] args;
+    private final BodyConverter<ResponseBody, T> dataConverter;
+    private final long retry;
+    private final int maxReconnects;
+
+    /**
+     * 创建 EventStreamPublisher 实例。
+     *
+     * @param requestFactory 请求创建工厂，每次连接时重新创建请求
+     * @param args           接口方法参数
+     * @param dataConverter 事件数据转换器
+     * @param retry         默认重连间隔，毫秒
+     * @param maxReconnects 连续重连次数上限，-1 表示不限制
+     */
+    public EventStreamPublisher(RequestFactory requestFactory, Object[] args, BodyConverter<ResponseBody, T> dataConverter, long retry, int maxReconnects) {
+        this.requestFactory = requestFactory;
+        this.args = args;
+        this.dataConverter = dataConverter;
+        this.retry = retry;
+        this.maxReconnects = maxReconnects;
+    }
+
+    /**
+     * 订阅事件流。
+     *
+     * @param subscriber 订阅者
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ServerSentEvent<T>> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber can not be null.");
+        subscriber.onSubscribe(new EventStreamSubscription(subscriber));
+    }
+
+    private final class EventStreamSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super ServerSentEvent<T>> subscriber;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition signal = lock.newCondition();
+        private long demand;
+        private boolean started;
+        @Nullable
+        private volatile Throwable illegalRequest;
+        private volatile boolean cancelled;
+        @Nullable
+        private volatile okhttp3.Call call;
+
+        private EventStreamSubscription(Flow.Subscriber<? super ServerSentEvent<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    illegalRequest = new IllegalArgumentException("Non-positive request: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                signal.signalAll();
+                if (!started && !cancelled) {
+                    started = true;
+                    Thread.ofVirtual().name("flare-sse").start(this);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            lock.lock();
+            try {
+                signal.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            okhttp3.Call current = call;
+            if (null != current) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public void run() {
+            String lastEventId = null;
+            long interval = retry;
+            int reconnects = 0;
+            try {
+                while (!cancelled) {
+                    if (null != illegalRequest) {
+                        fail(illegalRequest);
+                        return;
+                    }
+                    IOException failure = null;
+                    boolean received = false;
+                    okhttp3.Call current = requestFactory.client().newCall(newRequest(lastEventId));
+                    call = current;
+                    if (cancelled) {
+                        current.cancel();
+                        return;
+                    }
+                    try (Response response = current.execute()) {
+                        if (response.code() == 204) {
+                            subscriber.onComplete();
+                            return;
+                        }
+                        if (!response.isSuccessful()) {
+                            fail(new HttpException(InternalResponse.error(response, BufferUtils.buffer(response.body()))));
+                            return;
+                        }
+                        EventStreamParser parser = new EventStreamParser(response.body().source(), lastEventId);
+                        try {
+                            for (EventStreamParser.Event event = parser.next(); null != event; event = parser.next()) {
+                                received = true;
+                                if (!awaitDemand()) {
+                                    return;
+                                }
+                                subscriber.onNext(new ServerSentEvent<>(event.id(), event.event(), decode(event.data())));
+                            }
+                        } finally {
+                            lastEventId = parser.lastEventId();
+                            interval = parser.retry() >= 0 ? parser.retry() : interval;
+                        }
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                    if (cancelled) {
+                        return;
+                    }
+                    reconnects = received ? 0 : reconnects;
+                    if (maxReconnects >= 0 && reconnects >= maxReconnects) {
+                        if (null != failure) {
+                            fail(failure);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    reconnects++;
+                    log.debug("Event stream disconnected, reconnecting in {} ms.", interval, failure);
+                    if (!await(interval)) {
+                        return;
+                    }
+                }
+            } catch (Throwable e) {
+                if (!cancelled) {
+                    fail(e);
+                }
+            }
+        }
+
+        private Request newRequest(@Nullable String lastEventId) throws Exception {
+            // 动态请求头（如会过期的令牌）在每次连接时重新计算
+            Request request = requestFactory.create(args);
+            Request.Builder builder = request.newBuilder();
+            if (null == request.header("Accept")) {
+                builder.header("Accept", ACCEPT);
+            }
+            if (null != lastEventId && !lastEventId.isEmpty()) {
+                builder.header("Last-Event-ID", lastEventId);
+            } else {
+                builder.removeHeader("Last-Event-ID");
+            }
+            return builder.build();
+        }
+
+        @Nullable
+        private T decode(String data) throws IOException {
+            return dataConverter.convert(ResponseBody.create(data, null));
+        }
+
+        private void fail(Throwable e) {
+            cancelled = true;
+            subscriber.onError(e);
+        }
+
+        /**
+         * 等待订阅者的需求
+         *
+         * @return 是否可以继续发送
+         */
+        private boolean awaitDemand() throws InterruptedException {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled && null == illegalRequest) {
+                    signal.await();
+                }
+                if (null != illegalRequest) {
+                    fail(illegalRequest);
+                    return false;
+                }
+                if (cancelled) {
+                    return false;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 等待重连间隔，取消时立即返回
+         *
+         * @return 是否可以继续重连
+         */
+        private boolean await(long millis) throws InterruptedException {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+            lock.lock();
+            try {
+                while (nanos > 0 && !cancelled) {
+                    nanos = signal.awaitNanos(nanos);
+                }
+                return !cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
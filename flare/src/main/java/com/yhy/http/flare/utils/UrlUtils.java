@@ -14,6 +14,19 @@ import java.nio.charset.StandardCharsets;
  * @since 1.0.0
  */
 public class UrlUtils {
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * path segment 中无需编码的字符（RFC 3986 pchar，不含 '%'）
+     */
+    private static final boolean[] PATH_SEGMENT_SAFE = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) PATH_SEGMENT_SAFE[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) PATH_SEGMENT_SAFE[c] = true;
+        for (char c = '0'; c <= '9'; c++) PATH_SEGMENT_SAFE[c] = true;
+        for (char c : "-._~!$&'()*+,;=:@".toCharArray()) PATH_SEGMENT_SAFE[c] = true;
+    }
 
     private UrlUtils() {
         throw new UnsupportedOperationException("Can not instantiate utils class");
@@ -38,4 +51,67 @@ public class UrlUtils {
     public static String decode(String url) {
         return URLDecoder.decode(url, StandardCharsets.UTF_8);
     }
+
+    /**
+     * 按 path segment 规则编码，'/' 和 '%' 也会被编码
+     * <p>
+     * 与 {@link #encode(String)} 不同，空格编码为 %20 而不是 +
+     *
+     * @param segment 字符串
+     * @return 编码后的字符串，无需编码时返回原字符串
+     */
+    public static String encodePathSegment(String segment) {
+        return encodePath(segment, false);
+    }
+
+    /**
+     * 按 path 规则编码，保留 '/' 和已编码的 %XX 序列
+     *
+     * @param path 字符串
+     * @return 编码后的字符串，无需编码时返回原字符串
+     */
+    public static String encodePath(String path) {
+        return encodePath(path, true);
+    }
+
+    private static String encodePath(String text, boolean keepSlashAndEscapes) {
+        int len = text.length();
+        int i = 0;
+        while (i < len && isPathSafe(text, i, keepSlashAndEscapes)) {
+            i++;
+        }
+        if (i == len) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(len + 16);
+        sb.append(text, 0, i);
+        while (i < len) {
+            if (isPathSafe(text, i, keepSlashAndEscapes)) {
+                sb.append(text.charAt(i++));
+                continue;
+            }
+            int codePoint = text.codePointAt(i);
+            int count = Character.charCount(codePoint);
+            for (byte b : text.substring(i, i + count).getBytes(StandardCharsets.UTF_8)) {
+                sb.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+            }
+            i += count;
+        }
+        return sb.toString();
+    }
+
+    private static boolean isPathSafe(String text, int index, boolean keepSlashAndEscapes) {
+        char c = text.charAt(index);
+        if (c < 128 && PATH_SEGMENT_SAFE[c]) {
+            return true;
+        }
+        if (!keepSlashAndEscapes) {
+            return false;
+        }
+        return c == '/' || c == '%' && index + 2 < text.length() && isHex(text.charAt(index + 1)) && isHex(text.charAt(index + 2));
+    }
+
+    private static boolean isHex(char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
 }
@@ -0,0 +1,83 @@
+package com.yhy.http.flare;
+
+import com.yhy.http.flare.annotation.method.Get;
+import com.yhy.http.flare.annotation.method.Post;
+import com.yhy.http.flare.annotation.param.Path;
+import com.yhy.http.flare.model.StartupReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flare 启动解析和启动报告测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class FlareStartupReportTest {
+
+    /**
+     * 并行解析后每个方法都有报告，重复创建不覆盖首次报告。
+     */
+    @Test
+    public void parallelCompileReportsEveryMethod() {
+        Flare flare = new Flare.Builder()
+            .baseUrl("http://localhost:8080")
+            .parallelCompile(true)
+            .build();
+
+        flare.create(ReportApi.class);
+        StartupReport report = flare.startupReport(ReportApi.class).get();
+        flare.create(ReportApi.class);
+
+        assertSame(report, flare.startupReport(ReportApi.class).get());
+        assertEquals(List.of(report), flare.startupReports());
+        assertFalse(report.generated());
+        assertEquals(3, report.methods().size());
+        for (StartupReport.MethodReport method : report.methods()) {
+            assertNotNull(method.httpMethod());
+            assertNotNull(method.callAdapter());
+            assertNotNull(method.responseConverter());
+            assertFalse(method.compileTime().isNegative());
+        }
+        assertTrue(report.methods().stream().anyMatch(it -> "create".equals(it.method()) && "POST".equals(it.httpMethod())));
+    }
+
+    /**
+     * 并行解析时按方法声明顺序抛出第一个错误。
+     */
+    @Test
+    public void parallelCompileFailsLikeSerialCompile() {
+        Flare serial = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        Flare parallel = new Flare.Builder().baseUrl("http://localhost:8080").parallelCompile(true).build();
+
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class, () -> serial.create(BadApi.class));
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> parallel.create(BadApi.class));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertTrue(parallel.startupReport(BadApi.class).isInvalid());
+    }
+
+    interface ReportApi {
+        @Get("/users/{id}")
+        String user(@Path("id") String id);
+
+        @Get("/users")
+        List<String> users();
+
+        @Post("/users")
+        Map<String, Object> create();
+    }
+
+    interface BadApi {
+        @Get("/users/{id}")
+        String user(@Path("name") String id);
+
+        @Get("/users/{id}")
+        String other(@Path("name") String id);
+    }
+}
@@ -0,0 +1,90 @@
+package com.yhy.http.flare.dispatcher;
+
+import com.yhy.http.flare.annotation.exception.Catcher;
+import com.yhy.http.flare.annotation.exception.ErrorIgnored;
+import com.yhy.http.flare.delegate.ExceptionResolverDelegate;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ThrowableDispatcher 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class ThrowableDispatcherTest {
+
+    /**
+     * 最具体的异常处理器优先，同一异常类型的 resolver 只解析一次。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void mostSpecificCatcherIsResolvedOncePerExceptionType() throws Exception {
+        CountingDelegate delegate = new CountingDelegate();
+        ThrowableDispatcher dispatcher = ThrowableDispatcher.of(CatcherApi.class.getDeclaredMethod("catching"), delegate);
+
+        IoResolver.HANDLED.set(0);
+        assertTrue(dispatcher.dispatch(new FileNotFoundException()));
+        assertTrue(dispatcher.dispatch(new FileNotFoundException()));
+        assertTrue(dispatcher.dispatch(new IOException()));
+
+        assertEquals(3, IoResolver.HANDLED.get());
+        assertEquals(2, delegate.created.get());
+        assertFalse(dispatcher.dispatch(new IllegalStateException()));
+        assertFalse(dispatcher.errorIgnored());
+    }
+
+    /**
+     * 没有异常处理注解时不分发。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void methodWithoutCatcherDoesNotDispatch() throws Exception {
+        CountingDelegate delegate = new CountingDelegate();
+        ThrowableDispatcher dispatcher = ThrowableDispatcher.of(CatcherApi.class.getDeclaredMethod("ignored"), delegate);
+
+        assertTrue(dispatcher.errorIgnored());
+        assertFalse(dispatcher.dispatch(new IOException()));
+        assertEquals(0, delegate.created.get());
+    }
+
+    private interface CatcherApi {
+        @Catcher(throwable = IOException.class, resolver = IoResolver.class)
+        @Catcher(throwable = FileNotFoundException.class, resolver = FileResolver.class)
+        void catching();
+
+        @ErrorIgnored
+        void ignored();
+    }
+
+    public static class IoResolver implements Catcher.Resolver {
+        static final AtomicInteger HANDLED = new AtomicInteger();
+
+        @Override
+        public void resolve(Throwable throwable) {
+            HANDLED.incrementAndGet();
+        }
+    }
+
+    public static class FileResolver extends IoResolver {
+    }
+
+    private static class CountingDelegate implements ExceptionResolverDelegate {
+        private final AtomicInteger created = new AtomicInteger();
+
+        @Override
+        public <T extends Catcher.Resolver> T apply(Class<T> clazz) throws Exception {
+            created.incrementAndGet();
+            return clazz.getDeclaredConstructor().newInstance();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.yhy.http.flare.http.request;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.method.Get;
+import com.yhy.http.flare.annotation.param.Path;
+import com.yhy.http.flare.annotation.param.Query;
+import okhttp3.Request;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RequestFactory 单次请求分配测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class RequestFactoryAllocationTest {
+    private static final long BUDGET_BYTES = 4 * 1024;
+    private static final int WARMUP = 20_000;
+    private static final int ROUNDS = 10_000;
+
+    /**
+     * 一个 @Path 加一个 @Query 的 GET 请求，平均分配不应超过 create() 文档中的预算。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void simpleGetStaysWithinAllocationBudget() throws Exception {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        Method method = AllocationApi.class.getDeclaredMethod("user", String.class, Integer.class);
+        RequestFactory factory = RequestFactory.parseAnnotations(flare, method);
+        Object[] args = {"flare", 1};
+
+        Request request = factory.create(args);
+        assertEquals("http://localhost:8080/user/flare?page=1", request.url().toString());
+
+        for (int i = 0; i < WARMUP; i++) {
+            factory.create(args);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long start = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROUNDS; i++) {
+            factory.create(args);
+        }
+        long average = (bean.getThreadAllocatedBytes(threadId) - start) / ROUNDS;
+
+        assertTrue(average < BUDGET_BYTES, "Allocated " + average + " bytes per request, budget is " + BUDGET_BYTES);
+    }
+
+    private interface AllocationApi {
+        @Get("/user/{name}")
+        String user(@Path("name") String name, @Query("page") Integer page);
+    }
+}
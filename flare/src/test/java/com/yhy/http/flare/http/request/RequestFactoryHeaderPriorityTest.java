@@ -4,13 +4,14 @@ import com.yhy.http.flare.Flare;
 import com.yhy.http.flare.annotation.Header;
 import com.yhy.http.flare.annotation.method.Get;
 import com.yhy.http.flare.model.HttpHeader;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 /**
  * RequestFactory 请求头优先级测试。
@@ -35,7 +36,7 @@ public class RequestFactoryHeaderPriorityTest {
             .build();
         Method method = HeaderPriorityApi.class.getDeclaredMethod("parameterWins", String.class);
 
-        Request request = RequestFactory.parseAnnotations(flare, method).create(new OkHttpClient.Builder(), new Object[]{"parameter"});
+        Request request = RequestFactory.parseAnnotations(flare, method).create(new Object[]{"parameter"});
 
         assertEquals("parameter", request.header("X-Scope"));
         assertEquals("builder-only", request.header("X-Builder-Only"));
@@ -54,11 +55,55 @@ public class RequestFactoryHeaderPriorityTest {
             .build();
         Method method = HeaderPriorityApi.class.getDeclaredMethod("methodDynamicWins");
 
-        Request request = RequestFactory.parseAnnotations(flare, method).create(new OkHttpClient.Builder(), new Object[0]);
+        Request request = RequestFactory.parseAnnotations(flare, method).create(new Object[0]);
 
         assertEquals("method", request.header("X-Dynamic"));
     }
 
+    /**
+     * 方法级静态请求头应覆盖构建器全局动态请求头，默认 User-Agent 可被全局请求头覆盖。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void methodStaticHeaderOverridesBuilderDynamicHeader() throws Exception {
+        Flare flare = new Flare.Builder()
+            .baseUrl("http://localhost:8080")
+            .header("User-Agent", "builder-agent")
+            .header(method -> HttpHeader.of("X-Scope", "builder-dynamic"))
+            .build();
+        Method method = HeaderPriorityApi.class.getDeclaredMethod("parameterWins", String.class);
+
+        Request request = RequestFactory.parseAnnotations(flare, method).create(new Object[]{null});
+
+        assertEquals("", request.header("X-Scope"));
+        assertEquals("builder-agent", request.header("User-Agent"));
+
+        Method staticMethod = HeaderPriorityApi.class.getDeclaredMethod("methodStaticWins");
+        Request staticRequest = RequestFactory.parseAnnotations(flare, staticMethod).create(new Object[0]);
+
+        assertEquals("method", staticRequest.header("X-Scope"));
+    }
+
+    /**
+     * 同一个 RequestFactory 多次创建请求时，方法级动态请求头应每次重新获取。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void methodDynamicHeaderResolvedPerRequest() throws Exception {
+        Flare flare = new Flare.Builder()
+            .baseUrl("http://localhost:8080")
+            .build();
+        Method method = HeaderPriorityApi.class.getDeclaredMethod("countingDynamic");
+        RequestFactory factory = RequestFactory.parseAnnotations(flare, method);
+
+        String first = factory.create(new Object[0]).header("X-Counter");
+        String second = factory.create(new Object[0]).header("X-Counter");
+
+        assertNotEquals(first, second);
+    }
+
     private interface HeaderPriorityApi {
 
         /**
@@ -79,6 +124,24 @@ public class RequestFactoryHeaderPriorityTest {
         @Get("/index")
         @Header(dynamic = MethodDynamicHeader.class)
         String methodDynamicWins();
+
+        /**
+         * 方法静态请求头覆盖全局动态请求头。
+         *
+         * @return 响应
+         */
+        @Get("/index")
+        @Header(pairName = "X-Scope", pairValue = "method")
+        String methodStaticWins();
+
+        /**
+         * 每次请求都会变化的方法动态请求头。
+         *
+         * @return 响应
+         */
+        @Get("/index")
+        @Header(dynamic = CountingDynamicHeader.class)
+        String countingDynamic();
     }
 
     /**
@@ -97,4 +160,22 @@ public class RequestFactoryHeaderPriorityTest {
             return HttpHeader.of("X-Dynamic", "method");
         }
     }
+
+    /**
+     * 计数动态请求头。
+     */
+    public static class CountingDynamicHeader implements Header.Dynamic {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        /**
+         * 构造动态请求头。
+         *
+         * @param method 动态代理类中的接口方法反射对象
+         * @return 请求头
+         */
+        @Override
+        public HttpHeader header(Method method) {
+            return HttpHeader.of("X-Counter", String.valueOf(counter.incrementAndGet()));
+        }
+    }
 }
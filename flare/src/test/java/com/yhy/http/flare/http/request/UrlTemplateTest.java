@@ -0,0 +1,53 @@
+package com.yhy.http.flare.http.request;
+
+import com.yhy.http.flare.utils.UrlUtils;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UrlTemplate 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class UrlTemplateTest {
+
+    /**
+     * path 参数按 path segment 规则编码，'/' 与空格不会被当作路径分隔符或 '+'。
+     */
+    @Test
+    public void pathValueUsesSegmentEncoding() {
+        UrlTemplate template = UrlTemplate.parse("/get/path/{name}/{age}").withBase(HttpUrl.get("http://localhost:8080"));
+
+        HttpUrl url = template.expand(new String[]{UrlUtils.encodePathSegment("李/万 姬"), "25"});
+
+        assertEquals("/get/path/%E6%9D%8E%2F%E4%B8%87%20%E5%A7%AC/25", url.encodedPath());
+        assertEquals("李/万 姬", url.pathSegments().get(2));
+    }
+
+    /**
+     * base url 的 path 与相对路径只保留一个分隔符，固定查询参数被保留。
+     */
+    @Test
+    public void basePathAndStaticQueryAreKept() {
+        UrlTemplate template = UrlTemplate.parse("//index?from=flare").withBase(HttpUrl.get("http://localhost:8080/api/"));
+
+        HttpUrl url = template.expand(new String[0]);
+
+        assertEquals("http://localhost:8080/api/index?from=flare", url.toString());
+        assertSame(url, template.expand(new String[0]));
+    }
+
+    /**
+     * 整段占位符不允许路径穿越。
+     */
+    @Test
+    public void dotSegmentIsRejected() {
+        UrlTemplate template = UrlTemplate.parse("/files/{name}").withBase(HttpUrl.get("http://localhost:8080"));
+
+        assertThrows(IllegalArgumentException.class, () -> template.expand(new String[]{".."}));
+    }
+}
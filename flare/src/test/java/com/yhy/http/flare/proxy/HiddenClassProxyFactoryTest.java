@@ -0,0 +1,108 @@
+package com.yhy.http.flare.proxy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HiddenClassProxyFactory 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class HiddenClassProxyFactoryTest {
+
+    /**
+     * 生成的实现类按参数装箱后调用对应方法的调用器，并按返回类型拆箱。
+     */
+    @Test
+    public void generatedMethodsCallTheirInvokers() {
+        List<String> calls = new ArrayList<>();
+        GeneratedApi api = HiddenClassProxyFactory.create(GeneratedApi.class, method -> args -> {
+            calls.add(method.getName() + Arrays.toString(args));
+            return switch (method.getName()) {
+                case "add" -> (Integer) args[0] + ((Long) args[1]).intValue();
+                case "hello" -> "hi " + args[0];
+                case "many" -> (Double) args[3] + (Character) args[5];
+                case "names" -> new String[]{"flare"};
+                default -> null;
+            };
+        });
+
+        assertTrue(api.getClass().isHidden());
+        assertEquals(3, api.add(1, 2L));
+        assertEquals("hi flare", api.hello("flare"));
+        assertEquals(4.0 + 'f', api.many(1, 2L, 3f, 4d, "e", 'f'));
+        assertArrayEquals(new String[]{"flare"}, api.names(List.of()));
+        api.nothing();
+
+        assertEquals(List.of("add[1, 2]", "hello[flare]", "many[1, 2, 3.0, 4.0, e, f]", "names[[]]", "nothing[]"), calls);
+    }
+
+    /**
+     * 与 Proxy 一致，父接口方法和 default 方法也交给调用器。
+     */
+    @Test
+    public void inheritedAndDefaultMethodsAreImplemented() {
+        List<Method> methods = new ArrayList<>();
+        GeneratedApi api = HiddenClassProxyFactory.create(GeneratedApi.class, method -> {
+            methods.add(method);
+            return args -> "flag".equals(method.getName()) ? Boolean.TRUE : null;
+        });
+
+        assertTrue(api.flag());
+        assertTrue(methods.stream().anyMatch(method -> method.getDeclaringClass() == BaseApi.class));
+    }
+
+    /**
+     * 与 Proxy 一致，未声明的受检异常包装为 UndeclaredThrowableException，声明过的异常和运行时异常原样抛出。
+     */
+    @Test
+    public void undeclaredCheckedExceptionsAreWrapped() {
+        ThrowingApi api = HiddenClassProxyFactory.create(ThrowingApi.class, method -> args -> {
+            throw (Throwable) args[0];
+        });
+
+        IOException declared = new IOException("declared");
+        assertSame(declared, assertThrows(IOException.class, () -> api.declared(declared)));
+        Exception undeclared = new Exception("undeclared");
+        assertSame(undeclared, assertThrows(UndeclaredThrowableException.class, () -> api.undeclared(undeclared)).getCause());
+        IllegalStateException runtime = new IllegalStateException("runtime");
+        assertSame(runtime, assertThrows(IllegalStateException.class, () -> api.undeclared(runtime)));
+        assertSame(undeclared, assertThrows(Exception.class, () -> api.broad(undeclared)));
+    }
+
+    private interface ThrowingApi {
+        void declared(Throwable e) throws IOException;
+
+        void undeclared(Throwable e);
+
+        void broad(Throwable e) throws Exception;
+    }
+
+    private interface BaseApi {
+        String hello(String name);
+    }
+
+    private interface GeneratedApi extends BaseApi {
+        int add(int a, long b);
+
+        void nothing();
+
+        double many(int a, long b, float c, double d, String e, char f);
+
+        String[] names(List<String> list);
+
+        default boolean flag() {
+            return false;
+        }
+    }
+}
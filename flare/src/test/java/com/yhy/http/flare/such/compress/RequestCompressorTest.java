@@ -0,0 +1,125 @@
+package com.yhy.http.flare.such.compress;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.Compress;
+import com.yhy.http.flare.annotation.Header;
+import com.yhy.http.flare.annotation.method.Post;
+import com.yhy.http.flare.annotation.param.Body;
+import com.yhy.http.flare.http.request.RequestFactory;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.InflaterSource;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.Inflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 请求体压缩测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class RequestCompressorTest {
+    private static final String LARGE = "{\"log\":\"" + "flare ".repeat(1024) + "\"}";
+    private static final String SMALL = "{\"log\":\"flare\"}";
+
+    /**
+     * 全局配置按最小长度压缩，设置 Content-Encoding。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void globalGzipRespectsMinSize() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").compress(Compress.Encoding.GZIP, 1024).build();
+
+        Request large = create(flare, "plain", LARGE);
+        assertEquals("gzip", large.header("Content-Encoding"));
+        assertEquals(-1, large.body().contentLength());
+        assertEquals(LARGE, gunzip(large.body()));
+        // 可以重复写入
+        assertEquals(LARGE, gunzip(large.body()));
+
+        Request small = create(flare, "plain", SMALL);
+        assertNull(small.header("Content-Encoding"));
+        assertEquals(SMALL.length(), small.body().contentLength());
+    }
+
+    /**
+     * 方法上的 @Compress 优先于接口和全局配置，已有 Content-Encoding 时不压缩。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void annotationOverridesGlobal() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").compress(Compress.Encoding.GZIP, 0).build();
+
+        Request deflate = create(flare, "deflate", SMALL);
+        assertEquals("deflate", deflate.header("Content-Encoding"));
+        assertEquals(SMALL, inflate(deflate.body()));
+
+        Request identity = create(flare, "identity", LARGE);
+        assertNull(identity.header("Content-Encoding"));
+        assertEquals(LARGE.length(), identity.body().contentLength());
+
+        Request encoded = create(flare, "encoded", LARGE);
+        assertEquals("br", encoded.header("Content-Encoding"));
+        assertEquals(LARGE.length(), encoded.body().contentLength());
+    }
+
+    /**
+     * 默认不压缩。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void disabledByDefault() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+
+        assertNull(create(flare, "plain", LARGE).header("Content-Encoding"));
+    }
+
+    private static Request create(Flare flare, String method, String body) throws Exception {
+        Class<?> api = "plain".equals(method) ? PlainApi.class : CompressApi.class;
+        return RequestFactory.parseAnnotations(flare, api.getDeclaredMethod(method, String.class)).create(new Object[]{body});
+    }
+
+    private static String gunzip(RequestBody body) throws Exception {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return Okio.buffer(new GzipSource(buffer)).readUtf8();
+    }
+
+    private static String inflate(RequestBody body) throws Exception {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return Okio.buffer(new InflaterSource(buffer, new Inflater())).readUtf8();
+    }
+
+    interface PlainApi {
+
+        @Post("/log")
+        void plain(@Body String body);
+    }
+
+    @Compress(Compress.Encoding.IDENTITY)
+    interface CompressApi {
+
+        @Compress(value = Compress.Encoding.DEFLATE, minSize = 0)
+        @Post("/log")
+        void deflate(@Body String body);
+
+        @Post("/log")
+        void identity(@Body String body);
+
+        @Compress(minSize = 0)
+        @Header("Content-Encoding: br")
+        @Post("/log")
+        void encoded(@Body String body);
+    }
+}
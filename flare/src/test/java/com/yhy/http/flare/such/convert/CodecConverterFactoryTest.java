@@ -0,0 +1,127 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.Codec;
+import com.yhy.http.flare.annotation.method.Get;
+import com.yhy.http.flare.annotation.method.Post;
+import com.yhy.http.flare.annotation.param.Body;
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.http.request.RequestFactory;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smile、CBOR 转换器和 @Codec 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class CodecConverterFactoryTest {
+    private static final Item ITEM = new Item("flare", 3);
+
+    private final Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+
+    /**
+     * Smile 和 CBOR 请求体可以被同一个工厂解析回来，并带上各自的 Content-Type。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void binaryFormatsRoundTrip() throws Exception {
+        for (JacksonConverterFactory factory : new JacksonConverterFactory[]{new SmileConverterFactory(), new CborConverterFactory()}) {
+            RequestBody body = requestConverter(factory).convert(ITEM);
+            assertEquals(factory.mediaType(), body.contentType());
+
+            Buffer buffer = new Buffer();
+            body.writeTo(buffer);
+            byte[] bytes = buffer.readByteArray();
+            assertNotEquals('{', bytes[0]);
+
+            BodyConverter<ResponseBody, ?> converter = factory.responseBodyConverter(Item.class, new Annotation[0], flare);
+            assertEquals(ITEM, converter.convert(ResponseBody.create(bytes, factory.mediaType())));
+        }
+    }
+
+    /**
+     * 方法上的 @Codec 优先于接口上的 @Codec，没有 @Codec 时使用默认工厂，同一个工厂类只创建一次。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void codecIsResolvedFromMethodThenInterface() throws Exception {
+        Method smile = SmileApi.class.getDeclaredMethod("get");
+        Method cbor = SmileApi.class.getDeclaredMethod("cbor", Item.class);
+        Method json = JsonApi.class.getDeclaredMethod("get");
+
+        assertInstanceOf(SmileConverterFactory.class, flare.bodyConverterFactory(smile));
+        assertInstanceOf(CborConverterFactory.class, flare.bodyConverterFactory(cbor));
+        assertTrue(flare.codecFactory(json).isInvalid());
+        assertSame(flare.bodyConverterFactory(smile), flare.bodyConverterFactory(SmileApi.class.getDeclaredMethod("get")));
+    }
+
+    /**
+     * @Codec 设置 Accept 和 @Body 的 Content-Type，显式声明的 Accept 不被覆盖。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void codecSetsAcceptAndContentType() throws Exception {
+        Request get = RequestFactory.parseAnnotations(flare, SmileApi.class.getDeclaredMethod("get")).create(new Object[0]);
+        assertEquals(SmileConverterFactory.MEDIA_TYPE.toString(), get.header("Accept"));
+
+        Request post = RequestFactory.parseAnnotations(flare, SmileApi.class.getDeclaredMethod("cbor", Item.class)).create(new Object[]{ITEM});
+        assertEquals(CborConverterFactory.MEDIA_TYPE.toString(), post.header("Accept"));
+        assertNotNull(post.body());
+        assertEquals(CborConverterFactory.MEDIA_TYPE, post.body().contentType());
+
+        Request json = RequestFactory.parseAnnotations(flare, JsonApi.class.getDeclaredMethod("get")).create(new Object[0]);
+        assertNull(json.header("Accept"));
+    }
+
+    /**
+     * 已注册的工厂实例优先于空参数构造方法。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void registeredFactoryIsUsed() throws Exception {
+        SmileConverterFactory factory = new SmileConverterFactory();
+        Flare registered = new Flare.Builder().baseUrl("http://localhost:8080").codecFactory(factory).build();
+
+        assertSame(factory, registered.bodyConverterFactory(SmileApi.class.getDeclaredMethod("get")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private BodyConverter<Object, RequestBody> requestConverter(JacksonConverterFactory factory) {
+        return (BodyConverter<Object, RequestBody>) factory.requestBodyConverter(Item.class, new Annotation[0], flare);
+    }
+
+    public record Item(String name, Integer count) {
+    }
+
+    @Codec(SmileConverterFactory.class)
+    interface SmileApi {
+
+        @Get("/item")
+        Item get();
+
+        @Codec(CborConverterFactory.class)
+        @Post("/item")
+        Item cbor(@Body Item item);
+    }
+
+    interface JsonApi {
+
+        @Get("/item")
+        Item get();
+    }
+}
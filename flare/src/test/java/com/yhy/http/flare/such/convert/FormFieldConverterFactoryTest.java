@@ -0,0 +1,87 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.annotation.param.Multipart;
+import com.yhy.http.flare.convert.FormFieldConverter;
+import com.yhy.http.flare.model.FormField;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FormFieldConverterFactory 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class FormFieldConverterFactoryTest {
+
+    @SuppressWarnings("unchecked")
+    private final FormFieldConverter<Object> converter = (FormFieldConverter<Object>) new FormFieldConverterFactory().converter(Object.class, new java.lang.annotation.Annotation[0], null);
+
+    /**
+     * 嵌套对象按字段、下标和 key 展开，跳过静态、transient 和 null 字段。
+     */
+    @Test
+    public void nestedBeanIsFlattened() {
+        List<FormField<?>> fields = new ArrayList<>();
+        converter.convert("user", new UserForm(), false, null, fields::add);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach(field -> values.put(field.getName(), field.getValue()));
+        assertEquals(List.of("user.name", "user.address.city", "user.address.zip", "user.tags[0]", "user.tags[1]", "user.extra.k", "user.avatar"), new ArrayList<>(values.keySet()));
+        assertEquals("flare", values.get("user.name"));
+        assertEquals("1", values.get("user.address.zip"));
+        assertInstanceOf(FormField.BytesFormField.class, fields.getLast());
+        assertEquals("avatar.png", fields.getLast().getFilename());
+    }
+
+    /**
+     * 直接输出和列表输出的结果一致，同一个类多次展开结果一致。
+     */
+    @Test
+    public void sinkAndListOutputsMatch() {
+        for (int i = 0; i < 3; i++) {
+            List<FormField<?>> fields = new ArrayList<>();
+            converter.convert("", new UserForm(), false, null, fields::add);
+            assertEquals(names(converter.convert("", new UserForm(), false, null)), names(fields));
+        }
+    }
+
+    /**
+     * 非法的 Multipart 字段类型抛出异常。
+     */
+    @Test
+    public void invalidMultipartFieldIsRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> converter.convert("", new InvalidPartForm(), false, null));
+        assertEquals("java.lang.String is not a valid multipart field", e.getMessage());
+    }
+
+    private static List<String> names(List<FormField<?>> fields) {
+        return fields.stream().map(FormField::getName).toList();
+    }
+
+    static class Address {
+        String city = "hz";
+        int zip = 1;
+    }
+
+    static class UserForm {
+        static String ignoredStatic = "static";
+        transient String ignoredTransient = "transient";
+        String name = "flare";
+        String missing = null;
+        Address address = new Address();
+        List<String> tags = List.of("a", "b");
+        Map<String, Object> extra = Map.of("k", 3);
+        @Multipart(value = "avatar", filename = "avatar.png")
+        byte[] image = {1, 2};
+    }
+
+    static class InvalidPartForm {
+        @Multipart
+        String part = "x";
+    }
+}
@@ -0,0 +1,198 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.JsonFeatures;
+import com.yhy.http.flare.annotation.JsonPointer;
+import com.yhy.http.flare.annotation.Unwrap;
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.exception.EnvelopeException;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JacksonConverterFactory 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class JacksonConverterFactoryTest {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+    private static final Map<String, Object> VALUE = Map.of("items", List.of("a", "b", "c"));
+    private static final String JSON = "{\"items\":[\"a\",\"b\",\"c\"]}";
+
+    /**
+     * 不超过阈值时先序列化到内存，保留 Content-Length，可重复写入。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void smallBodyKeepsContentLength() throws Exception {
+        RequestBody body = convert(new JacksonConverterFactory(MAPPER, 1024));
+
+        assertEquals(JSON.length(), body.contentLength());
+        assertEquals(JSON, write(body));
+        assertEquals(JSON, write(body));
+    }
+
+    /**
+     * 超过阈值或阈值为 0 时流式写入，长度未知。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void largeBodyIsStreamed() throws Exception {
+        for (long threshold : new long[]{0, 8}) {
+            RequestBody body = convert(new JacksonConverterFactory(MAPPER, threshold));
+
+            assertEquals(-1, body.contentLength());
+            assertEquals(JSON, write(body));
+            assertEquals(JSON, write(body));
+        }
+    }
+
+    /**
+     * 默认不使用流式请求体。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void streamingIsDisabledByDefault() throws Exception {
+        RequestBody body = convert(new JacksonConverterFactory(MAPPER));
+
+        assertEquals(JSON.length(), body.contentLength());
+        assertEquals("application/json; charset=UTF-8", String.valueOf(body.contentType()));
+    }
+
+    /**
+     * 方法上的 @JsonFeatures 只作用于当前方法的响应转换器。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void jsonFeaturesArePerEndpoint() throws Exception {
+        JacksonConverterFactory factory = new JacksonConverterFactory(JsonMapper.builder().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build());
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        Annotation[] lenient = JacksonConverterFactoryTest.class.getDeclaredMethod("lenient").getAnnotations();
+        BodyConverter<ResponseBody, ?> relaxed = factory.responseBodyConverter(Item.class, lenient, flare);
+        BodyConverter<ResponseBody, ?> strict = factory.responseBodyConverter(Item.class, new Annotation[0], flare);
+        String json = "{\"name\":\"a\",\"unknown\":1}";
+
+        assertEquals(new Item("a"), relaxed.convert(ResponseBody.create(json, MediaType.get("application/json"))));
+        assertThrows(Exception.class, () -> strict.convert(ResponseBody.create(json, MediaType.get("application/json"))));
+    }
+
+    /**
+     * @JsonPointer 只解析指针指向的部分，格式错误的指针在创建转换器时报错。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void jsonPointerProjectsResponse() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        JacksonConverterFactory factory = new JacksonConverterFactory(MAPPER);
+        Type type = JacksonConverterFactoryTest.class.getDeclaredMethod("projected").getGenericReturnType();
+        Annotation[] annotations = JacksonConverterFactoryTest.class.getDeclaredMethod("projected").getAnnotations();
+        BodyConverter<ResponseBody, ?> converter = factory.responseBodyConverter(type, annotations, flare);
+        String json = "{\"code\":0,\"noise\":[{\"a\":1},{\"b\":[1,2,3]}],\"data\":{\"total\":3,\"items\":[{\"name\":\"a\"},{\"name\":\"b\"}],\"tail\":\"x\"}}";
+
+        assertEquals(List.of(new Item("a"), new Item("b")), converter.convert(ResponseBody.create(json, MediaType.get("application/json"))));
+        Annotation[] invalid = JacksonConverterFactoryTest.class.getDeclaredMethod("invalidPointer").getAnnotations();
+        assertThrows(IllegalArgumentException.class, () -> factory.responseBodyConverter(Item.class, invalid, flare));
+    }
+
+    /**
+     * @Unwrap 只解析数据字段，状态字段不论在数据前后都会校验。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void unwrapDecodesDataAndValidatesStatus() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        Annotation[] annotations = JacksonConverterFactoryTest.class.getDeclaredMethod("unwrapped").getAnnotations();
+        BodyConverter<ResponseBody, ?> converter = new JacksonConverterFactory(MAPPER).responseBodyConverter(Item.class, annotations, flare);
+
+        assertEquals(new Item("a"), converter.convert(json("{\"code\":0,\"message\":\"OK\",\"data\":{\"name\":\"a\"}}")));
+        assertEquals(new Item("a"), converter.convert(json("{\"data\":{\"name\":\"a\"},\"extra\":[1,2],\"code\":\"0\"}")));
+        assertNull(converter.convert(json("{\"code\":0,\"data\":null}")));
+
+        EnvelopeException before = assertThrows(EnvelopeException.class, () -> converter.convert(json("{\"code\":500,\"message\":\"boom\",\"data\":{\"name\":\"a\"}}")));
+        assertEquals("500", before.getStatus());
+        assertEquals("boom", before.getStatusMessage());
+        EnvelopeException after = assertThrows(EnvelopeException.class, () -> converter.convert(json("{\"data\":{\"name\":\"a\"},\"code\":1,\"message\":\"late\"}")));
+        assertEquals("late", after.getStatusMessage());
+        EnvelopeException missing = assertThrows(EnvelopeException.class, () -> converter.convert(json("{\"data\":{\"name\":\"a\"}}")));
+        assertNull(missing.getStatus());
+    }
+
+    /**
+     * 基本类型流按基本类型数组读写。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void primitiveStreamsRoundTrip() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        JacksonConverterFactory factory = new JacksonConverterFactory(MAPPER);
+
+        BodyConverter<Object, RequestBody> request = (BodyConverter<Object, RequestBody>) factory.requestBodyConverter(LongStream.class, new Annotation[0], flare);
+        assertEquals("[1,2,3]", write(request.convert(LongStream.of(1, 2, 3))));
+
+        assertArrayEquals(new long[]{1, 2, 3}, ((LongStream) factory.responseBodyConverter(LongStream.class, new Annotation[0], flare).convert(json("[1,2,3]"))).toArray());
+        assertArrayEquals(new int[]{4, 5}, ((IntStream) factory.responseBodyConverter(IntStream.class, new Annotation[0], flare).convert(json("[4,5]"))).toArray());
+        assertArrayEquals(new double[]{0.5, 1.5}, ((DoubleStream) factory.responseBodyConverter(DoubleStream.class, new Annotation[0], flare).convert(json("[0.5,1.5]"))).toArray());
+        assertArrayEquals(new long[]{7, 8}, (long[]) factory.responseBodyConverter(long[].class, new Annotation[0], flare).convert(json("[7,8]")));
+    }
+
+    private static ResponseBody json(String json) {
+        return ResponseBody.create(json, MediaType.get("application/json"));
+    }
+
+    @Unwrap(status = "code")
+    private static void unwrapped() {
+    }
+
+    @JsonFeatures(disableDeserialization = DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+    private static void lenient() {
+    }
+
+    @JsonPointer("/data/items")
+    private static List<Item> projected() {
+        return null;
+    }
+
+    @JsonPointer("data")
+    private static void invalidPointer() {
+    }
+
+    public record Item(String name) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RequestBody convert(JacksonConverterFactory factory) throws Exception {
+        BodyConverter<Object, RequestBody> converter = (BodyConverter<Object, RequestBody>) factory.requestBodyConverter(Map.class, new Annotation[0], null);
+        return converter.convert(VALUE);
+    }
+
+    private static String write(RequestBody body) throws Exception {
+        Buffer sink = new Buffer();
+        body.writeTo(sink);
+        return sink.readUtf8();
+    }
+}
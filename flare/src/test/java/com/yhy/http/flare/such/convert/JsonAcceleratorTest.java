@@ -0,0 +1,73 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.test.model.Cat;
+import com.yhy.http.flare.test.model.User;
+import lombok.Data;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.lang.annotation.Annotation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonAccelerator 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class JsonAcceleratorTest {
+
+    /**
+     * 加速后的副本注册 Blackbird，原 mapper 不变，Bean 和 record 的结果与未加速时一致。
+     */
+    @Test
+    public void accelerateCopiesMapper() {
+        JsonMapper mapper = JsonMapper.builderWithJackson2Defaults().build();
+        JsonMapper accelerated = JsonAccelerator.accelerate(mapper);
+
+        assertTrue(JsonAccelerator.isAvailable());
+        assertTrue(accelerated.registeredModules().stream().anyMatch(m -> m instanceof BlackbirdModule));
+        assertTrue(mapper.registeredModules().stream().noneMatch(m -> m instanceof BlackbirdModule));
+
+        Account account = new Account();
+        account.setId(7L);
+        account.setName("flare");
+        account.setEnabled(true);
+        String json = mapper.writeValueAsString(account);
+        assertEquals(json, accelerated.writeValueAsString(account));
+        assertEquals(account, accelerated.readValue(json, Account.class));
+
+        User user = new User(1L, "flare", 3, new Cat("tom", "gray"));
+        assertEquals(user, accelerated.readValue(mapper.writeValueAsString(user), User.class));
+    }
+
+    /**
+     * jsonAccelerator 作用于默认的 JSON 转换器。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void builderEnablesAcceleratorOnDefaultMapper() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").jsonAccelerator(true).build();
+        BodyConverter<ResponseBody, Account> converter = flare.responseConverter(Account.class, new Annotation[0]);
+
+        Account account = converter.convert(ResponseBody.create("{\"id\":1,\"name\":\"flare\",\"enabled\":true}", MediaType.get("application/json")));
+        assertEquals(1L, account.getId());
+        assertEquals("flare", account.getName());
+        assertTrue(account.isEnabled());
+    }
+
+    @Data
+    public static class Account {
+        private Long id;
+        private String name;
+        private boolean enabled;
+    }
+}
@@ -0,0 +1,138 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.Unwrap;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stream、Iterator、Iterable 返回值逐个解析测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class LazyValuesTest {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+    private static final String ARRAY = "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"id\":3,\"name\":\"c\"}]";
+    private static final String NDJSON = "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n\n{\"id\":3,\"name\":\"c\"}";
+    private static final List<Item> ITEMS = List.of(new Item(1, "a"), new Item(2, "b"), new Item(3, "c"));
+
+    private final Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+    private final JacksonConverterFactory factory = new JacksonConverterFactory(MAPPER);
+
+    /**
+     * JSON 数组和 NDJSON 都逐个返回元素，读取完毕后关闭响应体。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void streamClosesBodyWhenExhausted() throws Exception {
+        for (String json : new String[]{ARRAY, NDJSON}) {
+            AtomicBoolean closed = new AtomicBoolean();
+            Stream<?> stream = (Stream<?>) converter("stream").convert(body(json, closed));
+
+            assertFalse(closed.get());
+            assertEquals(ITEMS, stream.toList());
+            assertTrue(closed.get());
+        }
+    }
+
+    /**
+     * 提前结束时关闭 Stream 或 Iterator 释放连接。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void closingEarlyReleasesBody() throws Exception {
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        try (Stream<?> stream = (Stream<?>) converter("stream").convert(body(ARRAY, streamClosed))) {
+            assertEquals(ITEMS.getFirst(), stream.findFirst().orElseThrow());
+            assertFalse(streamClosed.get());
+        }
+        assertTrue(streamClosed.get());
+
+        AtomicBoolean iteratorClosed = new AtomicBoolean();
+        Iterator<?> iterator = (Iterator<?>) converter("iterator").convert(body(NDJSON, iteratorClosed));
+        assertEquals(ITEMS.getFirst(), iterator.next());
+        ((Closeable) iterator).close();
+        assertTrue(iteratorClosed.get());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Iterable 只能遍历一次。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void iterableIsSingleUse() throws Exception {
+        Iterable<?> iterable = (Iterable<?>) converter("iterable").convert(body(ARRAY, new AtomicBoolean()));
+
+        int count = 0;
+        for (Object ignored : iterable) {
+            count++;
+        }
+        assertEquals(3, count);
+        assertThrows(IllegalStateException.class, iterable::iterator);
+    }
+
+    /**
+     * 不能和 @Unwrap 一起使用。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void unwrapIsRejected() throws Exception {
+        Method method = Api.class.getDeclaredMethod("unwrapped");
+
+        assertThrows(IllegalArgumentException.class, () -> factory.responseBodyConverter(method.getGenericReturnType(), method.getAnnotations(), flare));
+    }
+
+    private BodyConverter<ResponseBody, ?> converter(String name) throws Exception {
+        Method method = Api.class.getDeclaredMethod(name);
+        return factory.responseBodyConverter(method.getGenericReturnType(), method.getAnnotations(), flare);
+    }
+
+    private static ResponseBody body(String json, AtomicBoolean closed) {
+        ForwardingSource source = new ForwardingSource(new Buffer().writeUtf8(json)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        return ResponseBody.create(Okio.buffer(source), MediaType.get("application/json"), -1);
+    }
+
+    public record Item(Integer id, String name) {
+    }
+
+    interface Api {
+
+        Stream<Item> stream();
+
+        Iterator<Item> iterator();
+
+        Iterable<Item> iterable();
+
+        @Unwrap
+        Stream<Item> unwrapped();
+    }
+}
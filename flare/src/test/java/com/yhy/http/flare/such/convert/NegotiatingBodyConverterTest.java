@@ -0,0 +1,122 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BodyConverter.Factory 链和按 Content-Type 选择转换器测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class NegotiatingBodyConverterTest {
+    private static final Item ITEM = new Item("flare", 3);
+
+    /**
+     * 响应按 Content-Type 选择转换器，缺失或未知时使用第一个工厂。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void responseIsDecodedByContentType() throws Exception {
+        Flare flare = new Flare.Builder()
+            .baseUrl("http://localhost:8080")
+            .bodyConverterFactory(new JacksonConverterFactory(JsonMapper.builder().build()))
+            .bodyConverterFactory(new SmileConverterFactory())
+            .build();
+        BodyConverter<ResponseBody, Item> converter = flare.responseConverter(Item.class, new Annotation[0]);
+        assertInstanceOf(NegotiatingBodyConverter.class, converter);
+
+        byte[] json = JsonMapper.builder().build().writeValueAsBytes(ITEM);
+        byte[] smile = SmileMapper.builder().build().writeValueAsBytes(ITEM);
+        assertEquals(ITEM, converter.convert(ResponseBody.create(smile, MediaType.get("application/x-jackson-smile"))));
+        assertEquals(ITEM, converter.convert(ResponseBody.create(json, MediaType.get("application/json; charset=UTF-8"))));
+        assertEquals(ITEM, converter.convert(ResponseBody.create(json, MediaType.get("text/plain"))));
+        assertEquals(ITEM, converter.convert(ResponseBody.create(json, null)));
+    }
+
+    /**
+     * 只有一个可选的转换器时不做协商。
+     */
+    @Test
+    public void singleCandidateIsNotWrapped() {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+
+        assertFalse(flare.responseConverter(Item.class, new Annotation[0]) instanceof NegotiatingBodyConverter);
+    }
+
+    /**
+     * 请求体使用第一个支持该类型的工厂。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void firstAcceptingFactoryWins() throws Exception {
+        Flare flare = new Flare.Builder()
+            .baseUrl("http://localhost:8080")
+            .bodyConverterFactory(new TextOnlyFactory())
+            .bodyConverterFactory(new SmileConverterFactory())
+            .build();
+
+        BodyConverter<String, RequestBody> text = flare.requestConverter(String.class, new Annotation[0]);
+        assertEquals(MediaType.get("text/plain; charset=UTF-8"), text.convert("flare").contentType());
+
+        BodyConverter<Item, RequestBody> item = flare.requestConverter(Item.class, new Annotation[0]);
+        RequestBody body = item.convert(ITEM);
+        assertEquals(SmileConverterFactory.MEDIA_TYPE, body.contentType());
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        assertEquals(ITEM, SmileMapper.builder().build().readValue(buffer.readByteArray(), Item.class));
+    }
+
+    public record Item(String name, Integer count) {
+    }
+
+    /**
+     * 只处理 String 的工厂
+     */
+    static class TextOnlyFactory implements BodyConverter.Factory {
+        private static final MediaType TEXT = MediaType.get("text/plain; charset=UTF-8");
+
+        @Override
+        public BodyConverter<?, RequestBody> requestBodyConverter(Type type, Annotation[] annotations, Flare flare) {
+            if (type != String.class) {
+                return null;
+            }
+            return new BodyConverter<String, RequestBody>() {
+                @Override
+                public RequestBody convert(String from) {
+                    return RequestBody.create(from, TEXT);
+                }
+
+                @Override
+                public Class<?> resultType() {
+                    return String.class;
+                }
+            };
+        }
+
+        @Override
+        public BodyConverter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Flare flare) {
+            return null;
+        }
+
+        @Override
+        public MediaType mediaType() {
+            return TEXT;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.ParallelDecode;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JSON 数组和 NDJSON 并行解析测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class ParallelRecordDecoderTest {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+    private static final ObjectReader READER = MAPPER.readerFor(Item.class);
+    private static final List<Item> ITEMS = IntStream.range(0, 5000).mapToObj(i -> new Item(i, "a,b]}{[\"\\ " + "x".repeat(i % 50))).toList();
+
+    /**
+     * JSON 数组按顶层元素切分，字符串中的括号、逗号和转义不影响边界，跨读取块的记录完整，顺序不变。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void jsonArrayKeepsOrder() throws Exception {
+        byte[] json = MAPPER.writeValueAsBytes(ITEMS);
+        assertTrue(json.length > 64 * 1024);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(ITEMS, ParallelRecordDecoder.decode(new ByteArrayInputStream(json), READER, 7, pool));
+            assertEquals(ITEMS, ParallelRecordDecoder.decode(new ByteArrayInputStream(json), READER, 100_000, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(List.of(), ParallelRecordDecoder.decode(input(" [ ] "), READER, 7, ParallelRecordDecoder.defaultPool()));
+        assertEquals(List.of(1, 2, 3), ParallelRecordDecoder.decode(input("[1, 2 ,3]"), MAPPER.readerFor(Integer.class), 2, ParallelRecordDecoder.defaultPool()));
+    }
+
+    /**
+     * NDJSON 按行切分，忽略空行，最后一行可以没有换行符。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void ndjsonSplitsLines() throws Exception {
+        String ndjson = ITEMS.stream().map(MAPPER::writeValueAsString).collect(Collectors.joining("\n\r\n"));
+
+        assertEquals(ITEMS, ParallelRecordDecoder.decode(input(ndjson), READER, 64, ParallelRecordDecoder.defaultPool()));
+    }
+
+    /**
+     * 并行度为 1 时顺序解析，结果和异常与切分解析一致。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void singleThreadPoolDecodesSequentially() throws Exception {
+        String ndjson = ITEMS.stream().map(MAPPER::writeValueAsString).collect(Collectors.joining("\n\r\n"));
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertEquals(ITEMS, ParallelRecordDecoder.decode(new ByteArrayInputStream(MAPPER.writeValueAsBytes(ITEMS)), READER, 7, pool));
+            assertEquals(ITEMS, ParallelRecordDecoder.decode(input(ndjson), READER, 7, pool));
+            assertEquals(List.of(), ParallelRecordDecoder.decode(input(" [ ] "), READER, 7, pool));
+            assertEquals(List.of(), ParallelRecordDecoder.decode(input(""), READER, 7, pool));
+            assertThrows(EOFException.class, () -> ParallelRecordDecoder.decode(input("[{\"id\":1},{\"id\""), READER, 1, pool));
+            assertThrows(EOFException.class, () -> ParallelRecordDecoder.decode(input("[{\"id\":1}"), READER, 1, pool));
+            assertThrows(RuntimeException.class, () -> ParallelRecordDecoder.decode(input("[{\"id\":1},{\"id\":}]"), READER, 1, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 不完整的数组和无法解析的记录抛出异常。
+     */
+    @Test
+    public void malformedInputFails() {
+        assertThrows(EOFException.class, () -> ParallelRecordDecoder.decode(input("[{\"id\":1},{\"id\""), READER, 1, ParallelRecordDecoder.defaultPool()));
+        assertThrows(RuntimeException.class, () -> ParallelRecordDecoder.decode(input("[{\"id\":1},{\"id\":}]"), READER, 1, ParallelRecordDecoder.defaultPool()));
+    }
+
+    /**
+     * @ParallelDecode 支持 List 和 Stream 返回值，其他返回值在解析方法时报错。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void converterHonoursReturnType() throws Exception {
+        Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+        JacksonConverterFactory factory = new JacksonConverterFactory(MAPPER);
+        byte[] json = MAPPER.writeValueAsBytes(ITEMS);
+
+        Method list = Api.class.getDeclaredMethod("list");
+        BodyConverter<ResponseBody, ?> listConverter = factory.responseBodyConverter(list.getGenericReturnType(), list.getAnnotations(), flare);
+        assertEquals(ITEMS, listConverter.convert(ResponseBody.create(json, MediaType.get("application/json"))));
+
+        Method stream = Api.class.getDeclaredMethod("stream");
+        BodyConverter<ResponseBody, ?> streamConverter = factory.responseBodyConverter(stream.getGenericReturnType(), stream.getAnnotations(), flare);
+        assertEquals(ITEMS, ((Stream<?>) streamConverter.convert(ResponseBody.create(json, MediaType.get("application/json")))).toList());
+
+        Method item = Api.class.getDeclaredMethod("item");
+        assertThrows(IllegalArgumentException.class, () -> factory.responseBodyConverter(item.getGenericReturnType(), item.getAnnotations(), flare));
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record Item(Integer id, String name) {
+    }
+
+    interface Api {
+
+        @ParallelDecode(chunkSize = 100)
+        List<Item> list();
+
+        @ParallelDecode(chunkSize = 100)
+        Stream<Item> stream();
+
+        @ParallelDecode
+        Item item();
+    }
+}
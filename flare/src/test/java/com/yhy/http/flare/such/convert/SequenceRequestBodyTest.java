@@ -0,0 +1,178 @@
+package com.yhy.http.flare.such.convert;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.Ndjson;
+import com.yhy.http.flare.convert.BodyConverter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stream、Iterator、Flow.Publisher 请求体测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class SequenceRequestBodyTest {
+    private static final List<Item> ITEMS = List.of(new Item(1, "a"), new Item(2, "b"), new Item(3, "c"));
+    private static final String ARRAY = "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"id\":3,\"name\":\"c\"}]";
+    private static final String NDJSON = "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n{\"id\":3,\"name\":\"c\"}\n";
+
+    private final Flare flare = new Flare.Builder().baseUrl("http://localhost:8080").build();
+    private final JacksonConverterFactory factory = new JacksonConverterFactory(JsonMapper.builder().build());
+
+    /**
+     * Stream 默认写成 JSON 数组，长度未知且只能写一次，写完后关闭 Stream。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void streamIsWrittenAsArray() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        RequestBody body = convert("stream", ITEMS.stream().onClose(() -> closed.set(true)));
+
+        assertEquals(-1, body.contentLength());
+        assertTrue(body.isOneShot());
+        assertEquals(ARRAY, write(body));
+        assertTrue(closed.get());
+        assertThrows(IllegalStateException.class, () -> write(body));
+    }
+
+    /**
+     * 标注 @Ndjson 时按行写出，以换行结尾。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void iteratorIsWrittenAsNdjson() throws Exception {
+        RequestBody body = convert("ndjson", ITEMS.iterator());
+
+        assertEquals(MediaType.get("application/x-ndjson"), body.contentType());
+        assertEquals(NDJSON, write(body));
+        assertEquals("", write(convert("ndjson", List.of().iterator())));
+        assertEquals("[]", write(convert("stream", Stream.empty())));
+    }
+
+    /**
+     * Flow.Publisher 按批次请求元素，未写出的元素不超过一批。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void publisherIsRequestedInBatches() throws Exception {
+        int total = SequenceRequestBody.BATCH * 4;
+        AtomicLong maxDemand = new AtomicLong();
+        Flow.Publisher<Item> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private long demand;
+            private int next;
+            private boolean emitting;
+
+            @Override
+            public void request(long n) {
+                demand += n;
+                maxDemand.accumulateAndGet(demand, Math::max);
+                if (emitting) {
+                    return;
+                }
+                emitting = true;
+                while (demand > 0 && next < total) {
+                    demand--;
+                    next++;
+                    subscriber.onNext(new Item(next, "n" + next));
+                }
+                emitting = false;
+                if (next == total) {
+                    next++;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        String json = write(convert("publisher", publisher));
+
+        String expected = IntStream.rangeClosed(1, total)
+            .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"n" + i + "\"}")
+            .reduce((a, b) -> a + "," + b)
+            .map(s -> "[" + s + "]")
+            .orElseThrow();
+        assertEquals(expected, json);
+        assertTrue(maxDemand.get() <= SequenceRequestBody.BATCH);
+    }
+
+    /**
+     * 发布者失败时写入以 IOException 结束。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void publisherFailureFailsWrite() throws Exception {
+        try (SubmissionPublisher<Item> publisher = new SubmissionPublisher<>()) {
+            RequestBody body = convert("publisher", publisher);
+            Thread.ofVirtual().start(() -> {
+                while (publisher.getNumberOfSubscribers() == 0) {
+                    Thread.onSpinWait();
+                }
+                publisher.submit(ITEMS.getFirst());
+                publisher.closeExceptionally(new IllegalStateException("boom"));
+            });
+
+            IOException e = assertThrows(IOException.class, () -> write(body));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RequestBody convert(String name, Object value) throws Exception {
+        Method method = find(name);
+        BodyConverter<Object, RequestBody> converter = (BodyConverter<Object, RequestBody>) factory.requestBodyConverter(method.getGenericParameterTypes()[0], method.getParameterAnnotations()[0], flare);
+        assertNotNull(converter);
+        return converter.convert(value);
+    }
+
+    private static Method find(String name) {
+        for (Method method : Api.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static String write(RequestBody body) throws IOException {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return buffer.readUtf8();
+    }
+
+    public record Item(Integer id, String name) {
+    }
+
+    interface Api {
+
+        void stream(Stream<Item> items);
+
+        void ndjson(@Ndjson Iterator<Item> items);
+
+        void publisher(Flow.Publisher<Item> items);
+    }
+}
@@ -0,0 +1,117 @@
+package com.yhy.http.flare.such.header;
+
+import com.yhy.http.flare.annotation.Header;
+import com.yhy.http.flare.model.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CachedDynamicHeader 测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class CachedDynamicHeaderTest {
+
+    private static final Method METHOD = CachedDynamicHeaderTest.class.getDeclaredMethods()[0];
+
+    /**
+     * 缓存未命中时并发请求只获取一次。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void concurrentMissesLoadOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CachedDynamicHeader header = CachedDynamicHeader.of(method -> {
+            calls.incrementAndGet();
+            await(release);
+            return HttpHeader.of("Authorization", "token");
+        }, 60_000);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<HttpHeader>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> header.header(METHOD)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<HttpHeader> future : futures) {
+                assertEquals("token", future.get(5, TimeUnit.SECONDS).value());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * 临近过期时返回旧值并在后台刷新。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void refreshAheadKeepsServingOldValue() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CachedDynamicHeader header = CachedDynamicHeader.of(method -> HttpHeader.of("Authorization", "token-" + calls.incrementAndGet()), 1_000, 800);
+
+        assertEquals("token-1", header.header(METHOD).value());
+        Thread.sleep(300);
+        assertEquals("token-1", header.header(METHOD).value());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"token-2".equals(header.header(METHOD).value()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("token-2", header.header(METHOD).value());
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * 有效期由动态请求头返回，等于 0 时不缓存，获取失败时不缓存。
+     */
+    @Test
+    public void providerExpiryAndFailuresAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        CachedDynamicHeader uncached = CachedDynamicHeader.of(new Header.Dynamic() {
+            @Override
+            public HttpHeader header(Method method) {
+                return HttpHeader.of("X-Request", String.valueOf(calls.incrementAndGet()));
+            }
+
+            @Override
+            public long expiresIn(Method method, HttpHeader header) {
+                return 0;
+            }
+        }, 60_000);
+        assertEquals("1", uncached.header(METHOD).value());
+        assertEquals("2", uncached.header(METHOD).value());
+
+        AtomicInteger failures = new AtomicInteger();
+        CachedDynamicHeader failing = CachedDynamicHeader.of(method -> {
+            if (failures.incrementAndGet() == 1) {
+                throw new IllegalStateException("token service down");
+            }
+            return HttpHeader.of("Authorization", "token");
+        }, 60_000);
+        assertThrows(IllegalStateException.class, () -> failing.header(METHOD));
+        assertEquals("token", failing.header(METHOD).value());
+        assertEquals("token", failing.header(METHOD).value());
+        assertEquals(2, failures.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.yhy.http.flare.such.sse;
+
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * text/event-stream 解析测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class EventStreamParserTest {
+
+    /**
+     * 多行 data、事件类型、注释、id 和 retry 按规范解析，结尾不完整的事件丢弃。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void parsesFieldsPerSpec() throws Exception {
+        String stream = "\uFEFF: keep-alive\r\n"
+            + "data: first\r\n"
+            + "data:second\r\n"
+            + "\r\n"
+            + "event: update\n"
+            + "id: 7\n"
+            + "retry: 1500\n"
+            + "data: {\"id\":1}\n"
+            + "\n"
+            + "retry: abc\n"
+            + "id\n"
+            + "data\n"
+            + "\n"
+            + "\n"
+            + "data: incomplete";
+        EventStreamParser parser = new EventStreamParser(new Buffer().writeUtf8(stream), "3");
+
+        assertEquals(new EventStreamParser.Event("3", "message", "first\nsecond"), parser.next());
+        assertEquals(new EventStreamParser.Event("7", "update", "{\"id\":1}"), parser.next());
+        assertEquals(1500, parser.retry());
+        assertEquals(new EventStreamParser.Event("", "message", ""), parser.next());
+        assertEquals(1500, parser.retry());
+        assertNull(parser.next());
+        assertEquals("", parser.lastEventId());
+    }
+}
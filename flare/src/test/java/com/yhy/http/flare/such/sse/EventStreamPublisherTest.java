@@ -0,0 +1,248 @@
+package com.yhy.http.flare.such.sse;
+
+import com.yhy.http.flare.Flare;
+import com.yhy.http.flare.annotation.Codec;
+import com.yhy.http.flare.annotation.EventStream;
+import com.yhy.http.flare.annotation.Header;
+import com.yhy.http.flare.annotation.method.Get;
+import com.yhy.http.flare.convert.BodyConverter;
+import com.yhy.http.flare.exception.HttpException;
+import com.yhy.http.flare.model.HttpHeader;
+import com.yhy.http.flare.model.ServerSentEvent;
+import okhttp3.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Server-Sent Events 返回值测试。
+ *
+ * @author 颜洪毅
+ * @version 1.0.0
+ * @since 2.0.2
+ */
+public class EventStreamPublisherTest {
+    private static final MediaType EVENT_STREAM = MediaType.get("text/event-stream");
+
+    /**
+     * 按需求逐个发送事件，断开后带 Last-Event-ID 重连，204 时结束。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void decodesEventsAndReconnects() throws Exception {
+        List<Request> requests = new CopyOnWriteArrayList<>();
+        Api api = api(chain -> {
+            requests.add(chain.request());
+            if (requests.size() == 1) {
+                return respond(chain, 200, "id: 1\ndata: {\"name\":\"a\",\"count\":1}\n\nid: 2\nevent: update\ndata: {\"name\":\"b\",\"count\":2}\n\n");
+            }
+            return respond(chain, 204, "");
+        });
+        Collector<Item> collector = new Collector<>();
+        api.items().subscribe(collector);
+
+        collector.subscription.get(5, TimeUnit.SECONDS).request(1);
+        ServerSentEvent<Item> first = collector.events.poll(5, TimeUnit.SECONDS);
+        assertEquals(new ServerSentEvent<>("1", "message", new Item("a", 1)), first);
+        // 没有新的需求时不发送
+        assertNull(collector.events.poll(200, TimeUnit.MILLISECONDS));
+
+        collector.subscription.get().request(Long.MAX_VALUE);
+        assertEquals(new ServerSentEvent<>("2", "update", new Item("b", 2)), collector.events.poll(5, TimeUnit.SECONDS));
+        assertNull(collector.done.get(5, TimeUnit.SECONDS));
+
+        assertEquals(2, requests.size());
+        assertEquals("text/event-stream", requests.get(0).header("Accept"));
+        assertNull(requests.get(0).header("Last-Event-ID"));
+        assertEquals("2", requests.get(1).header("Last-Event-ID"));
+    }
+
+    /**
+     * 每次重连都重新创建请求，动态请求头使用重连时的值。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void reconnectRefreshesDynamicHeaders() throws Exception {
+        List<Request> requests = new CopyOnWriteArrayList<>();
+        Api api = api(chain -> {
+            requests.add(chain.request());
+            if (requests.size() == 1) {
+                return respond(chain, 200, "id: 1\ndata: first\n\n");
+            }
+            return respond(chain, 204, "");
+        });
+        Collector<String> collector = new Collector<>();
+        api.secured().subscribe(collector);
+        collector.subscription.get(5, TimeUnit.SECONDS).request(Long.MAX_VALUE);
+
+        assertEquals("first", collector.events.poll(5, TimeUnit.SECONDS).data());
+        assertNull(collector.done.get(5, TimeUnit.SECONDS));
+        assertEquals(2, requests.size());
+        String first = requests.get(0).header("Authorization");
+        String second = requests.get(1).header("Authorization");
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotEquals(first, second);
+        assertEquals("1", requests.get(1).header("Last-Event-ID"));
+        assertEquals("text/event-stream", requests.get(1).header("Accept"));
+    }
+
+    /**
+     * 非 2xx 响应以 HttpException 结束，String 数据不经过 JSON 解析。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void failsOnErrorStatus() throws Exception {
+        Api api = api(chain -> respond(chain, 503, "unavailable"));
+        Collector<String> collector = new Collector<>();
+        api.text().subscribe(collector);
+        collector.subscription.get(5, TimeUnit.SECONDS).request(1);
+
+        HttpException e = assertInstanceOf(HttpException.class, collector.done.get(5, TimeUnit.SECONDS));
+        assertEquals(503, e.getCode());
+    }
+
+    /**
+     * 事件数据使用 @Codec 指定的工厂解析，Accept 仍为 text/event-stream。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void dataUsesCodecFactory() throws Exception {
+        List<Request> requests = new CopyOnWriteArrayList<>();
+        Api api = api(chain -> {
+            requests.add(chain.request());
+            return respond(chain, 200, "data: plain\n\n");
+        });
+        Collector<Item> collector = new Collector<>();
+        api.named().subscribe(collector);
+        collector.subscription.get(5, TimeUnit.SECONDS).request(1);
+
+        assertEquals(new Item("plain", 0), collector.events.poll(5, TimeUnit.SECONDS).data());
+        assertEquals("text/event-stream", requests.getFirst().header("Accept"));
+    }
+
+    private static Api api(Interceptor server) {
+        return new Flare.Builder().baseUrl("http://localhost:8080").interceptor(server).build().create(Api.class);
+    }
+
+    private static Response respond(Interceptor.Chain chain, int code, String body) {
+        return new Response.Builder()
+            .request(chain.request())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("")
+            .body(ResponseBody.create(body, code == 200 ? EVENT_STREAM : MediaType.get("text/plain")))
+            .build();
+    }
+
+    public record Item(String name, Integer count) {
+    }
+
+    interface Api {
+
+        @EventStream(retry = 0)
+        @Get("/events")
+        Flow.Publisher<ServerSentEvent<Item>> items();
+
+        @EventStream(maxReconnects = 0)
+        @Get("/text")
+        Flow.Publisher<ServerSentEvent<String>> text();
+
+        @EventStream(retry = 0)
+        @Get("/secured")
+        @Header(dynamic = TokenHeader.class)
+        Flow.Publisher<ServerSentEvent<String>> secured();
+
+        @Codec(NameCodec.class)
+        @EventStream(maxReconnects = 0)
+        @Get("/named")
+        Flow.Publisher<ServerSentEvent<Item>> named();
+    }
+
+    /**
+     * 每次计算都返回新令牌的动态请求头
+     */
+    public static class TokenHeader implements Header.Dynamic {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public HttpHeader header(Method method) {
+            return HttpHeader.of("Authorization", "Bearer token-" + counter.incrementAndGet());
+        }
+    }
+
+    /**
+     * 把整个数据当作 name 的转换器工厂
+     */
+    public static class NameCodec implements BodyConverter.Factory {
+
+        @Override
+        public BodyConverter<?, RequestBody> requestBodyConverter(Type type, Annotation[] annotations, Flare flare) {
+            return null;
+        }
+
+        @Override
+        public BodyConverter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Flare flare) {
+            if (type != Item.class) {
+                return null;
+            }
+            return new BodyConverter<ResponseBody, Item>() {
+                @Override
+                public Item convert(ResponseBody from) throws IOException {
+                    return new Item(from.string(), 0);
+                }
+
+                @Override
+                public Class<?> resultType() {
+                    return Item.class;
+                }
+            };
+        }
+
+        @Override
+        public MediaType mediaType() {
+            return MediaType.get("application/x-name");
+        }
+    }
+
+    /**
+     * 收集事件的订阅者
+     */
+    static class Collector<T> implements Flow.Subscriber<ServerSentEvent<T>> {
+        final CompletableFuture<Flow.Subscription> subscription = new CompletableFuture<>();
+        final BlockingQueue<ServerSentEvent<T>> events = new LinkedBlockingQueue<>();
+        final CompletableFuture<Throwable> done = new CompletableFuture<>();
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription.complete(subscription);
+        }
+
+        @Override
+        public void onNext(ServerSentEvent<T> item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.complete(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package com.yhy.http.flare.test;
 
+import com.yhy.http.flare.annotation.Compress;
+import com.yhy.http.flare.such.compress.RequestCompressor;
 import com.yhy.http.flare.such.interceptor.HttpLoggerInterceptor;
-import okhttp3.FormBody;
-import okhttp3.MediaType;
-import okhttp3.MultipartBody;
-import okhttp3.RequestBody;
-import okio.BufferedSink;
+import okhttp3.*;
+import okio.*;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +12,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -96,6 +97,69 @@ public class HttpLoggerInterceptorTest {
         assertEquals(5, inputStream.available());
     }
 
+    /**
+     * 长度未知的请求体在发送时才写入，日志不应提前写一遍。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void unknownLengthBodyIsNotRendered() throws Exception {
+        AtomicInteger writes = new AtomicInteger();
+        RequestBody body = new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return MediaType.parse("application/json");
+            }
+
+            @Override
+            public void writeTo(@NotNull BufferedSink sink) throws IOException {
+                writes.incrementAndGet();
+                sink.writeUtf8("{}");
+            }
+        };
+
+        String text = render(body);
+
+        assertEquals("(streaming body is not logged)", text);
+        assertEquals(0, writes.get());
+        RequestBody compressed = RequestCompressor.of(Compress.Encoding.GZIP, 0, -1).compress(RequestBody.create("{}", MediaType.get("application/json")));
+        assertEquals("(streaming body is not logged)", render(compressed));
+    }
+
+    /**
+     * 长度未知的响应体只预读开头一部分，调用方仍能读到完整内容。
+     *
+     * @throws Exception 调用异常
+     */
+    @Test
+    public void unknownLengthResponseIsPassedThrough() throws Exception {
+        String json = "[" + "1,".repeat(100_000) + "1]";
+        AtomicLong upstreamRead = new AtomicLong();
+        Source upstream = new ForwardingSource(new Buffer().writeUtf8(json)) {
+            @Override
+            public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, Math.min(byteCount, 8192));
+                upstreamRead.addAndGet(Math.max(read, 0));
+                return read;
+            }
+        };
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new HttpLoggerInterceptor())
+                .addInterceptor(chain -> new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(200)
+                        .message("OK")
+                        .body(ResponseBody.create(Okio.buffer(upstream), MediaType.get("application/json"), -1))
+                        .build())
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url("http://localhost/stream").build()).execute()) {
+            assertTrue(upstreamRead.get() < json.length());
+            assertEquals(json, response.body().string());
+        }
+    }
+
     private String render(RequestBody body) throws Exception {
         Method method = HttpLoggerInterceptor.class.getDeclaredMethod("requestBodyToString", String.class, RequestBody.class);
         method.setAccessible(true);